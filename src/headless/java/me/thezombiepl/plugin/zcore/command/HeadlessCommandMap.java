@@ -0,0 +1,89 @@
+package me.thezombiepl.plugin.zcore.command;
+
+import me.thezombiepl.plugin.zcore.headless.HeadlessSender;
+import me.thezombiepl.plugin.zcore.profiling.Diagnostics;
+import me.thezombiepl.plugin.zcore.utils.ColorUtil;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Command map of the headless platform ({@code me.thezombiepl.plugin.zcore.headless}).
+ * Dispatch and tab completion mirror {@link PaperCommandRegistrar}, without a server.
+ */
+public class HeadlessCommandMap {
+
+    private final Map<String, UniversalCommand> commands = new ConcurrentHashMap<>();
+
+    public void register(UniversalCommand command) {
+        commands.put(command.getName().toLowerCase(), command);
+        Diagnostics.track("headless", command);
+        for (String alias : command.getAliases()) {
+            commands.putIfAbsent(alias.toLowerCase(), command);
+        }
+    }
+
+    public UniversalCommand getCommand(String label) {
+        return commands.get(label.toLowerCase());
+    }
+
+    /**
+     * Executes a command line (with or without leading slash)
+     *
+     * @return false if no such command is registered
+     */
+    public boolean dispatch(HeadlessSender sender, String commandLine) {
+        String[] parts = split(commandLine);
+        UniversalCommand command = commands.get(parts[0].toLowerCase());
+        if (command == null) return false;
+
+        String[] args = Arrays.copyOfRange(parts, 1, parts.length);
+        long start = System.nanoTime();
+        if (command.getPermission() != null && !sender.hasPermission(command.getPermission())) {
+            String errorMsg = "&cYou don't have permission!";
+            if (command instanceof CommandHandler) {
+                CommandContext dummy = new CommandContext(sender, args, parts[0], CommandContext.Platform.HEADLESS);
+                errorMsg = ((CommandHandler) command).getNoPermissionMessage(dummy);
+            }
+            sender.sendMessage(ColorUtil.colorize(errorMsg));
+            CommandAuditLog.audit(CommandContext.Platform.HEADLESS, sender.getName(), command.getName(), args,
+                    CommandAuditLog.Outcome.DENIED, System.nanoTime() - start);
+            return true;
+        }
+
+        try {
+            boolean result = command.execute(new CommandContext(sender, args, parts[0], CommandContext.Platform.HEADLESS, CommandHandler.queueOf(command)));
+            CommandAuditLog.audit(CommandContext.Platform.HEADLESS, sender.getName(), command.getName(), args,
+                    result ? CommandAuditLog.Outcome.SUCCESS : CommandAuditLog.Outcome.FAILURE, System.nanoTime() - start);
+            return true;
+        } catch (RuntimeException e) {
+            CommandAuditLog.audit(CommandContext.Platform.HEADLESS, sender.getName(), command.getName(), args,
+                    CommandAuditLog.Outcome.ERROR, System.nanoTime() - start);
+            throw e;
+        } finally {
+            Diagnostics.recordCommand("headless", command.getName(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns tab completions for a partial command line (trailing space starts a new argument)
+     */
+    public List<String> complete(HeadlessSender sender, String partialLine) {
+        String[] parts = split(partialLine);
+        UniversalCommand command = commands.get(parts[0].toLowerCase());
+        if (!(command instanceof CommandHandler)) return Collections.emptyList();
+
+        String[] args = Arrays.copyOfRange(parts, 1, parts.length);
+        CommandContext context = new CommandContext(sender, args, parts[0], CommandContext.Platform.HEADLESS);
+        return ((CommandHandler) command).complete(context);
+    }
+
+    // "/cmd a b " -> ["cmd", "a", "b", ""] (pusty ostatni argument jak przy Tab)
+    private static String[] split(String commandLine) {
+        String line = commandLine.startsWith("/") ? commandLine.substring(1) : commandLine;
+        return line.split(" ", -1);
+    }
+}
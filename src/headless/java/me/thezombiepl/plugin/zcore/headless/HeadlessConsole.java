@@ -0,0 +1,32 @@
+package me.thezombiepl.plugin.zcore.headless;
+
+import net.kyori.adventure.text.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Simulated console - has every permission and only counts received messages.
+ */
+public class HeadlessConsole implements HeadlessSender {
+
+    private final LongAdder received = new LongAdder();
+
+    @Override
+    public String getName() {
+        return "CONSOLE";
+    }
+
+    @Override
+    public boolean hasPermission(String permission) {
+        return true;
+    }
+
+    @Override
+    public void sendMessage(Component message) {
+        received.increment();
+    }
+
+    public long getReceivedCount() {
+        return received.sum();
+    }
+}
@@ -0,0 +1,108 @@
+package me.thezombiepl.plugin.zcore.headless;
+
+import me.thezombiepl.plugin.zcore.command.HeadlessCommandMap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Headless stand-in for a Paper/Velocity server: players, console, command map and a tick-driven scheduler.
+ * Lets ZCore-based plugins be exercised and load-tested without booting a real server.
+ *
+ * <pre>{@code
+ * HeadlessPlatform platform = new HeadlessPlatform();
+ * platform.getCommandMap().register(new MyCommand());
+ * HeadlessPlayer steve = platform.addPlayer("Steve", Locale.ENGLISH, "myplugin.use");
+ * platform.getCommandMap().dispatch(steve, "/mycommand help");
+ * platform.getScheduler().tick();
+ * }</pre>
+ */
+public class HeadlessPlatform {
+
+    private final HeadlessCommandMap commandMap = new HeadlessCommandMap();
+    private final HeadlessScheduler scheduler = new HeadlessScheduler();
+    private final HeadlessConsole console = new HeadlessConsole();
+    private final Map<UUID, HeadlessPlayer> players = new ConcurrentHashMap<>();
+    private volatile Thread ticker;
+
+    public HeadlessCommandMap getCommandMap() {
+        return commandMap;
+    }
+
+    public HeadlessScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public HeadlessConsole getConsole() {
+        return console;
+    }
+
+    public HeadlessPlayer addPlayer(String name, Locale locale, String... permissions) {
+        HeadlessPlayer player = new HeadlessPlayer(UUID.nameUUIDFromBytes(("OfflinePlayer:" + name).getBytes(StandardCharsets.UTF_8)), name, locale);
+        for (String permission : permissions) {
+            player.addPermission(permission);
+        }
+        players.put(player.getUniqueId(), player);
+        return player;
+    }
+
+    public void removePlayer(HeadlessPlayer player) {
+        players.remove(player.getUniqueId());
+    }
+
+    public HeadlessPlayer getPlayer(UUID uniqueId) {
+        return players.get(uniqueId);
+    }
+
+    public Collection<HeadlessPlayer> getOnlinePlayers() {
+        return new ArrayList<>(players.values());
+    }
+
+    /**
+     * Starts a simulated main thread calling {@link HeadlessScheduler#tick()} every {@code tickMillis}
+     * (0 = as fast as possible)
+     */
+    public synchronized void startTicking(long tickMillis) {
+        if (ticker != null) return;
+        Thread thread = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                long start = System.nanoTime();
+                scheduler.tick();
+                long sleep = tickMillis - (System.nanoTime() - start) / 1_000_000L;
+                if (tickMillis > 0 && sleep > 0) {
+                    try {
+                        Thread.sleep(sleep);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+        }, "ZCore-Headless-Main");
+        thread.setDaemon(true);
+        ticker = thread;
+        thread.start();
+    }
+
+    public synchronized void stopTicking() {
+        Thread thread = ticker;
+        ticker = null;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(1000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public void shutdown() {
+        stopTicking();
+        scheduler.shutdown();
+    }
+}
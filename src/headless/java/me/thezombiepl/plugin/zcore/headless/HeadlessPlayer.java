@@ -0,0 +1,109 @@
+package me.thezombiepl.plugin.zcore.headless;
+
+import net.kyori.adventure.text.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Simulated player with a locale, a permission set and a bounded inbox of received messages.
+ * Thread-safe: load tests send to the same player from many threads.
+ */
+public class HeadlessPlayer implements HeadlessSender {
+
+    private static final int INBOX_SIZE = 64;
+
+    private final UUID uniqueId;
+    private final String name;
+    private volatile Locale locale;
+    private final Set<String> permissions = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private final Deque<Component> inbox = new ArrayDeque<>(INBOX_SIZE);
+    private final LongAdder received = new LongAdder();
+    private volatile boolean op;
+
+    public HeadlessPlayer(UUID uniqueId, String name, Locale locale) {
+        this.uniqueId = uniqueId;
+        this.name = name;
+        this.locale = locale;
+    }
+
+    public UUID getUniqueId() {
+        return uniqueId;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    public void setLocale(Locale locale) {
+        this.locale = locale;
+    }
+
+    public void setOp(boolean op) {
+        this.op = op;
+    }
+
+    public void addPermission(String permission) {
+        permissions.add(permission);
+    }
+
+    public void removePermission(String permission) {
+        permissions.remove(permission);
+    }
+
+    @Override
+    public boolean hasPermission(String permission) {
+        return op || permissions.contains(permission);
+    }
+
+    @Override
+    public void sendMessage(Component message) {
+        received.increment();
+        synchronized (inbox) {
+            if (inbox.size() == INBOX_SIZE) inbox.removeFirst();
+            inbox.addLast(message);
+        }
+    }
+
+    /**
+     * @return Last received messages (up to 64), oldest first
+     */
+    public List<Component> getInbox() {
+        synchronized (inbox) {
+            return new ArrayList<>(inbox);
+        }
+    }
+
+    public void clearInbox() {
+        synchronized (inbox) {
+            inbox.clear();
+        }
+    }
+
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    @Override
+    public boolean isPlayer() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "HeadlessPlayer{" + name + "}";
+    }
+}
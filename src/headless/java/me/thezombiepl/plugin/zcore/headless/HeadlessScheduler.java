@@ -0,0 +1,233 @@
+package me.thezombiepl.plugin.zcore.headless;
+
+import me.thezombiepl.plugin.zcore.scheduler.ZScheduler;
+import me.thezombiepl.plugin.zcore.scheduler.ZTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tick-driven scheduler of the headless platform.
+ * <p>
+ * Sync tasks run only inside {@link #tick()}, on the thread that calls it (the simulated main thread).
+ * Async tasks run on a cached thread pool immediately. As a {@link ZScheduler} there is a single
+ * simulated main thread, so entity and location tasks are global tasks.
+ * </p>
+ */
+public class HeadlessScheduler implements ZScheduler {
+
+    private final PriorityQueue<Task> queue = new PriorityQueue<>();
+    private final ExecutorService asyncPool;
+    private volatile Thread mainThread;
+    private volatile long currentTick;
+    private long sequence;
+
+    public HeadlessScheduler() {
+        AtomicInteger counter = new AtomicInteger();
+        this.asyncPool = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "ZCore-Headless-Async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Task runTask(Runnable task) {
+        return runTaskLater(task, 0L);
+    }
+
+    public Task runTaskLater(Runnable task, long delayTicks) {
+        return schedule(task, delayTicks, -1L);
+    }
+
+    public Task runTaskTimer(Runnable task, long delayTicks, long periodTicks) {
+        if (periodTicks < 1) throw new IllegalArgumentException("periodTicks must be >= 1");
+        return schedule(task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public Task runAsync(Runnable task) {
+        Task handle = new Task(task, currentTick, -1L, 0L);
+        asyncPool.execute(() -> {
+            if (!handle.cancelled) task.run();
+        });
+        return handle;
+    }
+
+    /* =========================
+       ZScheduler
+       ========================= */
+
+    @Override
+    public ZTask runGlobal(Runnable task) {
+        return runTask(task);
+    }
+
+    @Override
+    public ZTask runGlobalLater(Runnable task, long delayTicks) {
+        return runTaskLater(task, delayTicks);
+    }
+
+    @Override
+    public ZTask runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        return runTaskTimer(task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public ZTask runAsyncLater(Runnable task, long delayTicks) {
+        return runTaskLater(() -> asyncPool.execute(task), delayTicks);
+    }
+
+    @Override
+    public ZTask runAsyncTimer(Runnable task, long delayTicks, long periodTicks) {
+        return runTaskTimer(() -> asyncPool.execute(task), delayTicks, periodTicks);
+    }
+
+    @Override
+    public ZTask runAtEntity(Object entity, Runnable task) {
+        return runTask(task);
+    }
+
+    @Override
+    public ZTask runAtEntityLater(Object entity, Runnable task, long delayTicks) {
+        return runTaskLater(task, delayTicks);
+    }
+
+    @Override
+    public ZTask runAtEntityTimer(Object entity, Runnable task, long delayTicks, long periodTicks) {
+        return runTaskTimer(task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public ZTask runAtLocation(Object location, Runnable task) {
+        return runTask(task);
+    }
+
+    @Override
+    public ZTask runAtLocationLater(Object location, Runnable task, long delayTicks) {
+        return runTaskLater(task, delayTicks);
+    }
+
+    @Override
+    public ZTask runAtLocationTimer(Object location, Runnable task, long delayTicks, long periodTicks) {
+        return runTaskTimer(task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Object owner) {
+        return isMainThread();
+    }
+
+    /**
+     * Advances one tick and runs every sync task that is due. Exceptions are printed, not propagated.
+     */
+    public void tick() {
+        mainThread = Thread.currentThread();
+        long tick = ++currentTick;
+
+        List<Task> due = new ArrayList<>();
+        synchronized (queue) {
+            while (!queue.isEmpty() && queue.peek().nextTick <= tick) {
+                due.add(queue.poll());
+            }
+        }
+
+        for (Task task : due) {
+            if (task.cancelled) continue;
+            try {
+                task.runnable.run();
+            } catch (Throwable t) {
+                System.err.println("[ZCore] Headless task failed: " + t);
+                t.printStackTrace();
+            }
+            if (task.period > 0 && !task.cancelled) {
+                synchronized (queue) {
+                    task.nextTick = tick + task.period;
+                    task.order = sequence++;
+                    queue.add(task);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs {@code count} ticks back to back
+     */
+    public void tick(int count) {
+        for (int i = 0; i < count; i++) {
+            tick();
+        }
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @return true if called from the thread currently driving {@link #tick()}
+     */
+    public boolean isMainThread() {
+        return Thread.currentThread() == mainThread;
+    }
+
+    public int getPendingTasks() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    public void shutdown() {
+        synchronized (queue) {
+            queue.clear();
+        }
+        asyncPool.shutdown();
+        try {
+            asyncPool.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Task schedule(Runnable runnable, long delayTicks, long period) {
+        synchronized (queue) {
+            Task task = new Task(runnable, currentTick + Math.max(1L, delayTicks), period, sequence++);
+            queue.add(task);
+            return task;
+        }
+    }
+
+    public static final class Task implements ZTask, Comparable<Task> {
+        private final Runnable runnable;
+        private final long period;
+        private long nextTick;
+        private long order;
+        private volatile boolean cancelled;
+
+        private Task(Runnable runnable, long nextTick, long period, long order) {
+            this.runnable = runnable;
+            this.nextTick = nextTick;
+            this.period = period;
+            this.order = order;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            int byTick = Long.compare(nextTick, other.nextTick);
+            return byTick != 0 ? byTick : Long.compare(order, other.order);
+        }
+    }
+}
@@ -0,0 +1,505 @@
+package me.thezombiepl.plugin.zcore.headless;
+
+import me.thezombiepl.plugin.zcore.command.CommandContext;
+import me.thezombiepl.plugin.zcore.command.CommandHandler;
+import me.thezombiepl.plugin.zcore.config.ConfigManager;
+import me.thezombiepl.plugin.zcore.messages.MessageManager;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Concurrent load harness on top of {@link HeadlessPlatform}.
+ * <p>
+ * Worker threads pick weighted operations (command executions, tab completions, message sends,
+ * reloads or custom actions) for random simulated players and record per-operation latency.
+ * The report contains throughput, p50/p95/p99/max latency and the allocation rate of the workers.
+ * </p>
+ *
+ * <pre>{@code
+ * LoadHarness.Report report = new LoadHarness(platform)
+ *         .threads(8)
+ *         .operationsPerThread(50_000)
+ *         .command("/mycommand info", 10)
+ *         .tabComplete("/mycommand ", 5)
+ *         .message("<gradient:red:blue>Hello</gradient>", 5)
+ *         .reload("messages", () -> messages.reload(config), 1)
+ *         .run();
+ * System.out.println(report);
+ * }</pre>
+ */
+public class LoadHarness {
+
+    private final HeadlessPlatform platform;
+    private final List<WeightedOperation> operations = new ArrayList<>();
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int operationsPerThread = 10_000;
+    private int warmupPerThread = 1_000;
+    private int simulatedPlayers = 100;
+
+    public LoadHarness(HeadlessPlatform platform) {
+        this.platform = platform;
+    }
+
+    public LoadHarness threads(int threads) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be >= 1");
+        this.threads = threads;
+        return this;
+    }
+
+    public LoadHarness operationsPerThread(int operationsPerThread) {
+        this.operationsPerThread = operationsPerThread;
+        return this;
+    }
+
+    public LoadHarness warmupPerThread(int warmupPerThread) {
+        this.warmupPerThread = warmupPerThread;
+        return this;
+    }
+
+    /**
+     * Number of players created when the platform has none online
+     */
+    public LoadHarness simulatedPlayers(int simulatedPlayers) {
+        this.simulatedPlayers = simulatedPlayers;
+        return this;
+    }
+
+    public LoadHarness command(String commandLine, int weight) {
+        return operation("command " + commandLine, weight,
+                player -> platform.getCommandMap().dispatch(player, commandLine));
+    }
+
+    public LoadHarness tabComplete(String partialLine, int weight) {
+        return operation("complete " + partialLine, weight,
+                player -> platform.getCommandMap().complete(player, partialLine));
+    }
+
+    public LoadHarness message(String message, int weight) {
+        return operation("message " + (message.length() > 24 ? message.substring(0, 24) + "..." : message), weight,
+                player -> new CommandContext(player, new String[0], "", CommandContext.Platform.HEADLESS).sendMessage(message));
+    }
+
+    public LoadHarness reload(String name, Action action, int weight) {
+        return operation("reload " + name, weight, player -> action.run());
+    }
+
+    public LoadHarness operation(String name, int weight, Operation operation) {
+        if (weight < 1) throw new IllegalArgumentException("weight must be >= 1");
+        operations.add(new WeightedOperation(name, weight, operation));
+        return this;
+    }
+
+    /**
+     * Runs warmup and measurement on {@code threads} worker threads and blocks until all finish
+     */
+    public Report run() throws InterruptedException {
+        if (operations.isEmpty()) throw new IllegalStateException("No operations configured");
+
+        List<HeadlessPlayer> players = new ArrayList<>(platform.getOnlinePlayers());
+        if (players.isEmpty()) {
+            for (int i = 0; i < simulatedPlayers; i++) {
+                players.add(platform.addPlayer("Player" + i, i % 2 == 0 ? Locale.ENGLISH : new Locale("pl")));
+            }
+        }
+
+        int[] cumulative = new int[operations.size()];
+        int total = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            total += operations.get(i).weight;
+            cumulative[i] = total;
+        }
+
+        Worker[] workers = new Worker[threads];
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker(players, cumulative, total, start, done);
+            Thread thread = new Thread(workers[i], "ZCore-Load-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long wallNanos = System.nanoTime() - begin;
+
+        return buildReport(workers, wallNanos);
+    }
+
+    private Report buildReport(Worker[] workers, long wallNanos) {
+        Map<String, OperationStats> stats = new LinkedHashMap<>();
+        long allocated = 0L;
+        long measuredNanos = 0L;
+        for (int op = 0; op < operations.size(); op++) {
+            int count = 0;
+            long errors = 0;
+            for (Worker worker : workers) {
+                count += worker.latencies[op].size;
+                errors += worker.errors[op];
+            }
+            long[] merged = new long[count];
+            int offset = 0;
+            for (Worker worker : workers) {
+                LongList list = worker.latencies[op];
+                System.arraycopy(list.values, 0, merged, offset, list.size);
+                offset += list.size;
+            }
+            Arrays.sort(merged);
+            stats.put(operations.get(op).name, new OperationStats(operations.get(op).name, merged, errors, wallNanos));
+        }
+        for (Worker worker : workers) {
+            allocated += Math.max(0L, worker.allocatedBytes);
+            measuredNanos = Math.max(measuredNanos, worker.measuredNanos);
+        }
+        return new Report(threads, wallNanos, allocated, measuredNanos, stats);
+    }
+
+    private final class Worker implements Runnable {
+        final List<HeadlessPlayer> players;
+        final int[] cumulative;
+        final int totalWeight;
+        final CountDownLatch start;
+        final CountDownLatch done;
+        final LongList[] latencies;
+        final long[] errors;
+        long allocatedBytes = -1L;
+        long measuredNanos;
+
+        Worker(List<HeadlessPlayer> players, int[] cumulative, int totalWeight, CountDownLatch start, CountDownLatch done) {
+            this.players = players;
+            this.cumulative = cumulative;
+            this.totalWeight = totalWeight;
+            this.start = start;
+            this.done = done;
+            this.latencies = new LongList[operations.size()];
+            this.errors = new long[operations.size()];
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = new LongList(operationsPerThread / Math.max(1, operations.size()) + 16);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                start.await();
+                for (int i = 0; i < warmupPerThread; i++) {
+                    execute(false);
+                }
+                long allocBefore = Allocation.currentThreadBytes();
+                long begin = System.nanoTime();
+                for (int i = 0; i < operationsPerThread; i++) {
+                    execute(true);
+                }
+                measuredNanos = System.nanoTime() - begin;
+                long allocAfter = Allocation.currentThreadBytes();
+                if (allocBefore >= 0 && allocAfter >= 0) {
+                    allocatedBytes = allocAfter - allocBefore;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private void execute(boolean record) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int pick = random.nextInt(totalWeight);
+            int op = 0;
+            while (cumulative[op] <= pick) op++;
+            HeadlessPlayer player = players.get(random.nextInt(players.size()));
+
+            long begin = System.nanoTime();
+            try {
+                operations.get(op).operation.run(player);
+            } catch (Throwable t) {
+                if (record) errors[op]++;
+            }
+            if (record) {
+                latencies[op].add(System.nanoTime() - begin);
+            }
+        }
+    }
+
+    /* =========================
+       Results
+       ========================= */
+
+    public static final class OperationStats {
+        private final String name;
+        private final long count;
+        private final long errors;
+        private final long p50;
+        private final long p95;
+        private final long p99;
+        private final long max;
+        private final double throughput;
+
+        OperationStats(String name, long[] sortedLatencies, long errors, long wallNanos) {
+            this.name = name;
+            this.count = sortedLatencies.length;
+            this.errors = errors;
+            this.p50 = percentile(sortedLatencies, 0.50);
+            this.p95 = percentile(sortedLatencies, 0.95);
+            this.p99 = percentile(sortedLatencies, 0.99);
+            this.max = sortedLatencies.length == 0 ? 0L : sortedLatencies[sortedLatencies.length - 1];
+            this.throughput = wallNanos == 0 ? 0.0 : count * 1_000_000_000.0 / wallNanos;
+        }
+
+        private static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) return 0L;
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getP50Nanos() {
+            return p50;
+        }
+
+        public long getP95Nanos() {
+            return p95;
+        }
+
+        public long getP99Nanos() {
+            return p99;
+        }
+
+        public long getMaxNanos() {
+            return max;
+        }
+
+        /**
+         * @return Operations per second over the whole run
+         */
+        public double getThroughput() {
+            return throughput;
+        }
+    }
+
+    public static final class Report {
+        private final int threads;
+        private final long wallNanos;
+        private final long allocatedBytes;
+        private final long measuredNanos;
+        private final Map<String, OperationStats> operations;
+
+        Report(int threads, long wallNanos, long allocatedBytes, long measuredNanos, Map<String, OperationStats> operations) {
+            this.threads = threads;
+            this.wallNanos = wallNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.measuredNanos = measuredNanos;
+            this.operations = operations;
+        }
+
+        public Map<String, OperationStats> getOperations() {
+            return operations;
+        }
+
+        public long getWallNanos() {
+            return wallNanos;
+        }
+
+        public long getTotalOperations() {
+            long total = 0;
+            for (OperationStats stats : operations.values()) total += stats.count;
+            return total;
+        }
+
+        public double getThroughput() {
+            return wallNanos == 0 ? 0.0 : getTotalOperations() * 1_000_000_000.0 / wallNanos;
+        }
+
+        /**
+         * @return Bytes allocated by the workers during measurement, or -1 if the JVM cannot report it
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * @return Allocation rate in MB/s, or -1 if unavailable
+         */
+        public double getAllocationRateMbPerSecond() {
+            if (allocatedBytes <= 0 || measuredNanos == 0) return -1.0;
+            return allocatedBytes / 1_048_576.0 / (measuredNanos / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format(Locale.ROOT, "ZCore load test: %d threads, %d ops in %.2f s (%.0f ops/s), alloc %.1f MB/s%n",
+                    threads, getTotalOperations(), wallNanos / 1e9, getThroughput(), getAllocationRateMbPerSecond()));
+            sb.append(String.format(Locale.ROOT, "%-40s %10s %8s %12s %10s %10s %10s %10s%n",
+                    "operation", "count", "errors", "ops/s", "p50 us", "p95 us", "p99 us", "max us"));
+            for (OperationStats s : operations.values()) {
+                sb.append(String.format(Locale.ROOT, "%-40s %10d %8d %12.0f %10.1f %10.1f %10.1f %10.1f%n",
+                        s.name.length() > 40 ? s.name.substring(0, 40) : s.name, s.count, s.errors, s.throughput,
+                        s.p50 / 1e3, s.p95 / 1e3, s.p99 / 1e3, s.max / 1e3));
+            }
+            return sb.toString();
+        }
+    }
+
+    /* =========================
+       Core API
+       ========================= */
+
+    @FunctionalInterface
+    public interface Operation {
+        void run(HeadlessPlayer player) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private static final class WeightedOperation {
+        final String name;
+        final int weight;
+        final Operation operation;
+
+        WeightedOperation(String name, int weight, Operation operation) {
+            this.name = name;
+            this.weight = weight;
+            this.operation = operation;
+        }
+    }
+
+    private static final class LongList {
+        long[] values;
+        int size;
+
+        LongList(int capacity) {
+            values = new long[Math.max(16, capacity)];
+        }
+
+        void add(long value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+    }
+
+    /**
+     * Per-thread allocation counter via {@code com.sun.management.ThreadMXBean} (HotSpot/OpenJ9), reflectively
+     */
+    private static final class Allocation {
+        private static final ThreadMXBean BEAN = ManagementFactory.getThreadMXBean();
+        private static final Method ALLOCATED_BYTES = find();
+
+        private static Method find() {
+            try {
+                Method method = Class.forName("com.sun.management.ThreadMXBean")
+                        .getMethod("getThreadAllocatedBytes", long.class);
+                Method enable = Class.forName("com.sun.management.ThreadMXBean")
+                        .getMethod("setThreadAllocatedMemoryEnabled", boolean.class);
+                enable.invoke(BEAN, true);
+                return method;
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        static long currentThreadBytes() {
+            if (ALLOCATED_BYTES == null) return -1L;
+            try {
+                return (Long) ALLOCATED_BYTES.invoke(BEAN, Thread.currentThread().getId());
+            } catch (Exception e) {
+                return -1L;
+            }
+        }
+    }
+
+    /* =========================
+       Standalone run
+       ========================= */
+
+    /**
+     * Runs a synthetic scenario against ZCore itself: {@code ./gradlew loadHarness --args="[threads] [opsPerThread]"}
+     */
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int ops = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+
+        File dataFolder = Files.createTempDirectory("zcore-load").toFile();
+        ConfigManager config = new ConfigManager(dataFolder, "config.yml", null);
+        MessageManager messages = new MessageManager(dataFolder, config, "en", fileName -> null);
+
+        HeadlessPlatform platform = new HeadlessPlatform();
+        platform.getCommandMap().register(new SampleCommand(messages));
+
+        Report report = new LoadHarness(platform)
+                .threads(threads)
+                .operationsPerThread(ops)
+                .command("/zload info", 10)
+                .command("/zload echo hello world", 10)
+                .command("/zload help", 5)
+                .tabComplete("/zload ", 10)
+                .tabComplete("/zload e", 5)
+                .message("&7[&6ZCore&7] <gradient:#ff0000:#0000ff>Load test message</gradient>", 10)
+                .reload("messages", () -> messages.reload(config), 1)
+                .run();
+
+        System.out.println(report);
+        platform.shutdown();
+    }
+
+    private static final class SampleCommand extends CommandHandler {
+
+        SampleCommand(MessageManager messages) {
+            setMessageManager(messages);
+            registerSubCommand("info", SubCommands.simple(ctx -> {
+                ctx.sendMessage(getMessageManager().getMessage("messages.info", "&7ZCore &a{status}",
+                        Collections.singletonMap("status", "OK")));
+                return true;
+            }));
+            registerSubCommand("echo", SubCommands.withDetails(null, "Echo arguments", ctx -> {
+                ctx.sendMessage("&f" + String.join(" ", ctx.getArgs()));
+                return true;
+            }));
+            registerSubCommand("help", SubCommands.simple(ctx -> {
+                List<String> lines = new ArrayList<>();
+                for (int i = 0; i < 15; i++) lines.add("&e/zload sub" + i + " &7- description " + i);
+                ctx.sendMessages(lines);
+                return true;
+            }));
+        }
+
+        @Override
+        public String getName() {
+            return "zload";
+        }
+
+        @Override
+        protected boolean onNoArgs(CommandContext context) {
+            context.sendMessage("&7Usage: /zload <info|echo|help>");
+            return true;
+        }
+    }
+}
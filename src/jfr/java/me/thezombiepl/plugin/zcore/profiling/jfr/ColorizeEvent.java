@@ -0,0 +1,32 @@
+package me.thezombiepl.plugin.zcore.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import me.thezombiepl.plugin.zcore.profiling.Profiler;
+
+@Name("zcore.Colorize")
+@Label("ZCore Colorize")
+@Description("ColorUtil.colorize - legacy/MiniMessage parse of a string into a Component")
+@Category({"ZCore", "Text"})
+@StackTrace(true)
+public final class ColorizeEvent extends jdk.jfr.Event implements Profiler.TextSpan {
+
+    @Label("Input Length")
+    int inputLength;
+
+    @Label("Cache Hit")
+    boolean cacheHit;
+
+    @Override
+    public void end(int inputLength, boolean cacheHit) {
+        end();
+        if (shouldCommit()) {
+            this.inputLength = inputLength;
+            this.cacheHit = cacheHit;
+            commit();
+        }
+    }
+}
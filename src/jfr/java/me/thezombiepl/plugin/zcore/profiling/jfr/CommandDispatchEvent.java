@@ -0,0 +1,36 @@
+package me.thezombiepl.plugin.zcore.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import me.thezombiepl.plugin.zcore.profiling.Profiler;
+
+@Name("zcore.CommandDispatch")
+@Label("ZCore Command Dispatch")
+@Description("Execution of a command registered through ZCore")
+@Category({"ZCore", "Commands"})
+@StackTrace(false)
+public final class CommandDispatchEvent extends jdk.jfr.Event implements Profiler.CommandSpan {
+
+    @Label("Command")
+    String command;
+
+    @Label("Subcommand")
+    String subCommand;
+
+    @Label("Async")
+    boolean async;
+
+    @Override
+    public void end(String command, String subCommand, boolean async) {
+        end();
+        if (shouldCommit()) {
+            this.command = command;
+            this.subCommand = subCommand;
+            this.async = async;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package me.thezombiepl.plugin.zcore.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import me.thezombiepl.plugin.zcore.profiling.Profiler;
+
+@Name("zcore.FileOperation")
+@Label("ZCore File Operation")
+@Description("ConfigManager/MessageManager load, reload or save of a YAML file")
+@Category({"ZCore", "Config"})
+@StackTrace(true)
+public final class FileOperationEvent extends jdk.jfr.Event implements Profiler.FileSpan {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("File")
+    String file;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Override
+    public void end(String operation, String file, long bytes) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.file = file;
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
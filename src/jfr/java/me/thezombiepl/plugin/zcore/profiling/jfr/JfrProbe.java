@@ -0,0 +1,66 @@
+package me.thezombiepl.plugin.zcore.profiling.jfr;
+
+import jdk.jfr.FlightRecorder;
+import me.thezombiepl.plugin.zcore.profiling.Profiler;
+
+/**
+ * JFR-backed probe, loaded reflectively by {@link Profiler} on Java 11+.
+ * A span object is only allocated when its event type is enabled in a running recording.
+ */
+public final class JfrProbe implements Profiler.Probe {
+
+    // Stan włączenia jest wspólny dla całej klasy eventu - wystarczy jedna instancja do sprawdzania
+    private static final ColorizeEvent COLORIZE = new ColorizeEvent();
+    private static final SerializeEvent SERIALIZE = new SerializeEvent();
+    private static final MessageLookupEvent LOOKUP = new MessageLookupEvent();
+    private static final FileOperationEvent FILE = new FileOperationEvent();
+    private static final CommandDispatchEvent COMMAND = new CommandDispatchEvent();
+
+    public JfrProbe() {
+        FlightRecorder.register(ColorizeEvent.class);
+        FlightRecorder.register(SerializeEvent.class);
+        FlightRecorder.register(MessageLookupEvent.class);
+        FlightRecorder.register(FileOperationEvent.class);
+        FlightRecorder.register(CommandDispatchEvent.class);
+    }
+
+    @Override
+    public Profiler.TextSpan colorize() {
+        if (!COLORIZE.isEnabled()) return Profiler.NoopSpan.INSTANCE;
+        ColorizeEvent event = new ColorizeEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public Profiler.TextSpan serialize() {
+        if (!SERIALIZE.isEnabled()) return Profiler.NoopSpan.INSTANCE;
+        SerializeEvent event = new SerializeEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public Profiler.LookupSpan messageLookup() {
+        if (!LOOKUP.isEnabled()) return Profiler.NoopSpan.INSTANCE;
+        MessageLookupEvent event = new MessageLookupEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public Profiler.FileSpan fileOperation() {
+        if (!FILE.isEnabled()) return Profiler.NoopSpan.INSTANCE;
+        FileOperationEvent event = new FileOperationEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public Profiler.CommandSpan commandDispatch() {
+        if (!COMMAND.isEnabled()) return Profiler.NoopSpan.INSTANCE;
+        CommandDispatchEvent event = new CommandDispatchEvent();
+        event.begin();
+        return event;
+    }
+}
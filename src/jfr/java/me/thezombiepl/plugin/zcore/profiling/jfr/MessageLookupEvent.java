@@ -0,0 +1,36 @@
+package me.thezombiepl.plugin.zcore.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import me.thezombiepl.plugin.zcore.profiling.Profiler;
+
+@Name("zcore.MessageLookup")
+@Label("ZCore Message Lookup")
+@Description("MessageManager message/list lookup including placeholder replacement")
+@Category({"ZCore", "Messages"})
+@StackTrace(true)
+public final class MessageLookupEvent extends jdk.jfr.Event implements Profiler.LookupSpan {
+
+    @Label("Key")
+    String key;
+
+    @Label("Locale")
+    String locale;
+
+    @Label("Placeholder Count")
+    int placeholderCount;
+
+    @Override
+    public void end(String key, String locale, int placeholderCount) {
+        end();
+        if (shouldCommit()) {
+            this.key = key;
+            this.locale = locale;
+            this.placeholderCount = placeholderCount;
+            commit();
+        }
+    }
+}
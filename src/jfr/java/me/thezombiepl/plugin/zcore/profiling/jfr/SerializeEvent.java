@@ -0,0 +1,32 @@
+package me.thezombiepl.plugin.zcore.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import me.thezombiepl.plugin.zcore.profiling.Profiler;
+
+@Name("zcore.Serialize")
+@Label("ZCore Serialize")
+@Description("ColorUtil.serialize - Component to legacy section string")
+@Category({"ZCore", "Text"})
+@StackTrace(true)
+public final class SerializeEvent extends jdk.jfr.Event implements Profiler.TextSpan {
+
+    @Label("Output Length")
+    int outputLength;
+
+    @Label("Cache Hit")
+    boolean cacheHit;
+
+    @Override
+    public void end(int outputLength, boolean cacheHit) {
+        end();
+        if (shouldCommit()) {
+            this.outputLength = outputLength;
+            this.cacheHit = cacheHit;
+            commit();
+        }
+    }
+}
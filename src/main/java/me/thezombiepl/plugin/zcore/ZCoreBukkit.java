@@ -1,5 +1,15 @@
 package me.thezombiepl.plugin.zcore;
 
+import me.thezombiepl.plugin.zcore.command.CommandAuditLog;
+import me.thezombiepl.plugin.zcore.command.CommandRegistry;
+import me.thezombiepl.plugin.zcore.messages.PlaceholderRegistry;
+import me.thezombiepl.plugin.zcore.scheduler.Schedulers;
+import me.thezombiepl.plugin.zcore.sync.BukkitSyncTransport;
+import me.thezombiepl.plugin.zcore.sync.SyncReplica;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 
 /**
@@ -10,14 +20,44 @@ import org.bukkit.plugin.java.JavaPlugin;
  * - org.json (JSON parsing)
  * - ConfigManager, MessageManager, ColorUtil (utility classes)
  */
-public class ZCoreBukkit extends JavaPlugin {
-	
+public class ZCoreBukkit extends JavaPlugin implements Listener {
+
+    private static SyncReplica syncReplica;
+
+    /**
+     * Receiver of config/message snapshots pushed by the Velocity proxy.
+     * Nothing is requested until a plugin binds a document.
+     *
+     * @return SyncReplica or null while ZCore is disabled
+     */
+    public static SyncReplica getSyncReplica() {
+        return syncReplica;
+    }
+
 	@Override
     public void onEnable() {
-        printStartupLogs("Bukkit/Paper (" + getServer().getVersion() + ")");
+        printStartupLogs((Schedulers.isFolia() ? "Folia (" : "Bukkit/Paper (") + getServer().getVersion() + ")");
+        Schedulers.set(Schedulers.bukkit(this));
+        syncReplica = new SyncReplica(new BukkitSyncTransport(this));
+        CommandRegistry.register(this, new ZCoreCommand());
+        getServer().getPluginManager().registerEvents(this, this);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        // Wartości placeholderów gracza nie czekają na wygaśnięcie po wyjściu z serwera
+        PlaceholderRegistry.shared().invalidatePlayer(event.getPlayer());
     }
     @Override
     public void onDisable() {
+        if (syncReplica != null) {
+            syncReplica.close();
+            syncReplica = null;
+        }
+        // ZCore wyłącza się po pluginach zależnych - zapisujemy resztę logu komend
+        CommandAuditLog auditLog = CommandAuditLog.set(null);
+        if (auditLog != null) auditLog.close();
+        Schedulers.set(null);
         getLogger().info("ZCore disabled!");
     }
 
@@ -0,0 +1,338 @@
+package me.thezombiepl.plugin.zcore;
+
+import me.thezombiepl.plugin.zcore.command.CommandAuditLog;
+import me.thezombiepl.plugin.zcore.command.CommandContext;
+import me.thezombiepl.plugin.zcore.command.CommandHandler;
+import me.thezombiepl.plugin.zcore.command.UniversalCommand;
+import me.thezombiepl.plugin.zcore.config.ConfigManager;
+import me.thezombiepl.plugin.zcore.messages.MessageManager;
+import me.thezombiepl.plugin.zcore.profiling.Diagnostics;
+import me.thezombiepl.plugin.zcore.profiling.Profiler;
+import me.thezombiepl.plugin.zcore.utils.AnimatedText;
+import me.thezombiepl.plugin.zcore.utils.CacheStats;
+import me.thezombiepl.plugin.zcore.utils.CapabilityRenderer;
+import me.thezombiepl.plugin.zcore.utils.ColorUtil;
+import me.thezombiepl.plugin.zcore.utils.TextLayout;
+import net.kyori.adventure.text.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@code /zcore} - live view into ZCore: managers per plugin, loaded languages, rendering caches,
+ * file timings and the slowest commands. {@code /zcore json} prints the same data as one JSON
+ * object for monitoring ({@link #toJson()} returns it directly).
+ */
+public class ZCoreCommand extends CommandHandler {
+
+    public static final String PERMISSION = "zcore.diagnostics";
+
+    private static final int SLOWEST_COMMANDS = 5;
+
+    public ZCoreCommand() {
+        registerSubCommand("managers", SubCommands.withDetails(null, "Managers and languages per plugin",
+                context -> reply(context, managerLines())));
+        registerSubCommand("caches", SubCommands.withDetails(null, "Rendering cache hit rates",
+                context -> reply(context, cacheLines())));
+        registerSubCommand("timings", SubCommands.withDetails(null, "Load, reload and save timings",
+                context -> reply(context, fileTimingLines())));
+        registerSubCommand("commands", SubCommands.withDetails(null, "Slowest commands",
+                context -> reply(context, commandLines())));
+        registerSubCommand("json", SubCommands.withDetails(null, "Everything as JSON", context -> {
+            context.sendMessage(Component.text(toJson()));
+            return true;
+        }));
+        registerSubCommand("reset", SubCommands.withDetails(null, "Reset file and command timings", context -> {
+            Diagnostics.resetTimings();
+            context.sendMessage("&aZCore timings reset.");
+            return true;
+        }));
+        registerHelpSubCommand();
+    }
+
+    @Override
+    public String getName() {
+        return "zcore";
+    }
+
+    @Override
+    public String getPermission() {
+        return PERMISSION;
+    }
+
+    @Override
+    public String getDescription() {
+        return "ZCore diagnostics";
+    }
+
+    @Override
+    protected boolean onNoArgs(CommandContext context) {
+        List<String> lines = new ArrayList<>();
+        lines.add("&8&m-----&r &6ZCore diagnostics &8&m-----");
+        lines.addAll(managerLines());
+        lines.addAll(cacheLines());
+        lines.addAll(fileTimingLines());
+        lines.addAll(commandLines());
+        lines.add(auditLine());
+        lines.add("&7JFR events: " + (Profiler.isAvailable() ? "&aon" : "&coff") + " &8| &7/" + getName() + " json");
+        context.sendMessages(lines);
+        return true;
+    }
+
+    private static boolean reply(CommandContext context, List<String> lines) {
+        context.sendMessages(lines);
+        return true;
+    }
+
+    /* =========================
+       Text
+       ========================= */
+
+    private static List<String> managerLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("&eManagers:");
+        Map<String, List<Object>> owners = Diagnostics.instancesByOwner(Object.class);
+        if (owners.isEmpty()) lines.add("&7 (none)");
+        for (Map.Entry<String, List<Object>> owner : owners.entrySet()) {
+            Counts counts = Counts.of(owner.getValue());
+            lines.add("&7 - &f" + owner.getKey() + "&7: &f" + counts.configs + " &7configs, &f"
+                    + counts.messages.size() + " &7message managers, &f" + counts.commands + " &7commands");
+            for (MessageManager messages : counts.messages) {
+                lines.add("&7     lang &f" + messages.getCurrentLanguage() + "&7: ~&f"
+                        + kilobytes(messages.estimateMemoryBytes()) + " KB&7, &f"
+                        + messages.getTemplateCacheSize() + " &7templates, generation &f" + messages.getGeneration());
+            }
+        }
+        return lines;
+    }
+
+    private static List<String> cacheLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("&eCaches:");
+        for (CacheLine cache : caches()) {
+            lines.add("&7 - &f" + cache.name + "&7: &a" + percent(cache.hits, cache.misses) + "% &7("
+                    + cache.hits + " hits / " + cache.misses + " misses"
+                    + (cache.size >= 0 ? ", " + cache.size + " entries" : "") + ")");
+        }
+        lines.add("&7 - &fanimatedText&7: " + AnimatedText.getSharedCount() + " shared frame sets");
+        return lines;
+    }
+
+    private static List<String> fileTimingLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("&eFile operations:");
+        Map<String, Diagnostics.Timing> timings = Diagnostics.getFileTimings();
+        if (timings.isEmpty()) lines.add("&7 (none)");
+        for (Map.Entry<String, Diagnostics.Timing> entry : timings.entrySet()) {
+            lines.add("&7 - &f" + entry.getKey() + "&7: " + timingText(entry.getValue()));
+        }
+        return lines;
+    }
+
+    private static List<String> commandLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("&eSlowest commands:");
+        List<Map.Entry<String, Diagnostics.Timing>> slowest = Diagnostics.getSlowestCommands(SLOWEST_COMMANDS);
+        if (slowest.isEmpty()) lines.add("&7 (none)");
+        for (Map.Entry<String, Diagnostics.Timing> entry : slowest) {
+            lines.add("&7 - &f/" + entry.getKey() + "&7: " + timingText(entry.getValue()));
+        }
+        return lines;
+    }
+
+    private static String auditLine() {
+        CommandAuditLog audit = CommandAuditLog.get();
+        if (audit == null) return "&7Command audit log: &coff";
+        return "&7Command audit log: &f" + audit.getWritten() + " &7written, &f" + audit.getPending() + "&7/"
+                + audit.getCapacity() + " pending, " + (audit.getDropped() > 0 ? "&c" : "&f") + audit.getDropped()
+                + " &7dropped, &f" + audit.getWriteErrors() + " &7write errors";
+    }
+
+    private static String timingText(Diagnostics.Timing timing) {
+        return timing.getCount() + "x, avg &f" + millis(timing.getAverageNanos()) + " ms&7, max &f"
+                + millis(timing.getMaxNanos()) + " ms&7, last " + millis(timing.getLastNanos()) + " ms";
+    }
+
+    /* =========================
+       JSON
+       ========================= */
+
+    /**
+     * All diagnostics as a single-line JSON object
+     */
+    public static String toJson() {
+        StringBuilder json = new StringBuilder(1024);
+        json.append("{\"timestamp\":").append(System.currentTimeMillis());
+        json.append(",\"jfr\":").append(Profiler.isAvailable());
+
+        json.append(",\"plugins\":{");
+        boolean first = true;
+        for (Map.Entry<String, List<Object>> owner : Diagnostics.instancesByOwner(Object.class).entrySet()) {
+            Counts counts = Counts.of(owner.getValue());
+            if (!first) json.append(',');
+            first = false;
+            quote(json, owner.getKey()).append(":{\"configManagers\":").append(counts.configs)
+                    .append(",\"messageManagers\":").append(counts.messages.size())
+                    .append(",\"commands\":").append(counts.commands)
+                    .append(",\"languages\":[");
+            for (int i = 0; i < counts.messages.size(); i++) {
+                MessageManager messages = counts.messages.get(i);
+                if (i > 0) json.append(',');
+                json.append("{\"language\":");
+                quote(json, messages.getCurrentLanguage())
+                        .append(",\"estimatedBytes\":").append(messages.estimateMemoryBytes())
+                        .append(",\"templates\":").append(messages.getTemplateCacheSize())
+                        .append(",\"generation\":").append(messages.getGeneration()).append('}');
+            }
+            json.append("]}");
+        }
+        json.append('}');
+
+        json.append(",\"caches\":{");
+        first = true;
+        for (CacheLine cache : caches()) {
+            if (!first) json.append(',');
+            first = false;
+            quote(json, cache.name).append(":{\"hits\":").append(cache.hits)
+                    .append(",\"misses\":").append(cache.misses)
+                    .append(",\"hitRate\":").append(decimal(ratio(cache.hits, cache.misses)));
+            if (cache.size >= 0) json.append(",\"size\":").append(cache.size);
+            json.append('}');
+        }
+        if (!first) json.append(',');
+        json.append("\"animatedText\":{\"size\":").append(AnimatedText.getSharedCount()).append("}}");
+
+        json.append(",\"fileOperations\":");
+        timingsJson(json, new ArrayList<>(Diagnostics.getFileTimings().entrySet()));
+        json.append(",\"slowestCommands\":");
+        timingsJson(json, Diagnostics.getSlowestCommands(SLOWEST_COMMANDS));
+
+        CommandAuditLog audit = CommandAuditLog.get();
+        json.append(",\"audit\":");
+        if (audit == null) {
+            json.append("null");
+        } else {
+            json.append("{\"written\":").append(audit.getWritten())
+                    .append(",\"pending\":").append(audit.getPending())
+                    .append(",\"capacity\":").append(audit.getCapacity())
+                    .append(",\"dropped\":").append(audit.getDropped())
+                    .append(",\"writeErrors\":").append(audit.getWriteErrors()).append('}');
+        }
+        return json.append('}').toString();
+    }
+
+    private static void timingsJson(StringBuilder json, List<Map.Entry<String, Diagnostics.Timing>> timings) {
+        json.append('{');
+        for (int i = 0; i < timings.size(); i++) {
+            Diagnostics.Timing timing = timings.get(i).getValue();
+            if (i > 0) json.append(',');
+            quote(json, timings.get(i).getKey()).append(":{\"count\":").append(timing.getCount())
+                    .append(",\"avgMs\":").append(millis(timing.getAverageNanos()))
+                    .append(",\"maxMs\":").append(millis(timing.getMaxNanos()))
+                    .append(",\"lastMs\":").append(millis(timing.getLastNanos()))
+                    .append(",\"totalMs\":").append(millis(timing.getTotalNanos())).append('}');
+        }
+        json.append('}');
+    }
+
+    private static StringBuilder quote(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append('"');
+    }
+
+    /* =========================
+       Data
+       ========================= */
+
+    private static List<CacheLine> caches() {
+        List<CacheLine> caches = new ArrayList<>();
+        caches.add(CacheLine.of("capabilityRenderer", CapabilityRenderer.getCacheStats(), CapabilityRenderer.getCacheSize()));
+        caches.add(CacheLine.of("textLayout", TextLayout.getCacheStats(), TextLayout.getCacheSize()));
+        caches.add(CacheLine.of("legacySerialize", ColorUtil.getSerializeCacheStats(), ColorUtil.getSerializeCacheSize()));
+
+        CacheLine blocks = new CacheLine("messageBlocks", -1);
+        for (List<MessageManager> managers : Diagnostics.instancesByOwner(MessageManager.class).values()) {
+            for (MessageManager messages : managers) blocks.add(messages.getBlockCacheStats());
+        }
+        caches.add(blocks);
+
+        CacheLine help = new CacheLine("helpPages", -1);
+        for (List<CommandHandler> handlers : Diagnostics.instancesByOwner(CommandHandler.class).values()) {
+            for (CommandHandler handler : handlers) help.add(handler.getHelpCacheStats());
+        }
+        caches.add(help);
+        return caches;
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private static String percent(long hits, long misses) {
+        return String.format(Locale.ROOT, "%.1f", ratio(hits, misses) * 100.0);
+    }
+
+    private static String decimal(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static String kilobytes(long bytes) {
+        return String.format(Locale.ROOT, "%.1f", bytes / 1024.0);
+    }
+
+    private static final class Counts {
+        int configs;
+        int commands;
+        final List<MessageManager> messages = new ArrayList<>();
+
+        static Counts of(List<Object> instances) {
+            Counts counts = new Counts();
+            for (Object instance : instances) {
+                if (instance instanceof ConfigManager) counts.configs++;
+                else if (instance instanceof MessageManager) counts.messages.add((MessageManager) instance);
+                else if (instance instanceof UniversalCommand) counts.commands++;
+            }
+            return counts;
+        }
+    }
+
+    private static final class CacheLine {
+        final String name;
+        final int size;
+        long hits;
+        long misses;
+
+        CacheLine(String name, int size) {
+            this.name = name;
+            this.size = size;
+        }
+
+        static CacheLine of(String name, CacheStats stats, int size) {
+            CacheLine line = new CacheLine(name, size);
+            line.add(stats);
+            return line;
+        }
+
+        void add(CacheStats stats) {
+            hits += stats.getHits();
+            misses += stats.getMisses();
+        }
+    }
+}
@@ -2,9 +2,18 @@ package me.thezombiepl.plugin.zcore;
 
 import com.google.inject.Inject;
 import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.connection.DisconnectEvent;
 import com.velocitypowered.api.event.proxy.ProxyInitializeEvent;
+import com.velocitypowered.api.event.proxy.ProxyShutdownEvent;
 import com.velocitypowered.api.plugin.Plugin;
 import com.velocitypowered.api.plugin.annotation.DataDirectory;
+import com.velocitypowered.api.proxy.ProxyServer;
+import me.thezombiepl.plugin.zcore.command.CommandAuditLog;
+import me.thezombiepl.plugin.zcore.command.CommandRegistry;
+import me.thezombiepl.plugin.zcore.messages.PlaceholderRegistry;
+import me.thezombiepl.plugin.zcore.scheduler.Schedulers;
+import me.thezombiepl.plugin.zcore.sync.SyncAuthority;
+import me.thezombiepl.plugin.zcore.sync.VelocitySyncTransport;
 import org.slf4j.Logger;
 
 import java.nio.file.Path;
@@ -19,13 +28,27 @@ import java.nio.file.Path;
 )
 public class ZCoreVelocity {
 
+    private static SyncAuthority syncAuthority;
+
+    private final ProxyServer server;
     private final Logger logger;
 
     @Inject
-    public ZCoreVelocity(Logger logger, @DataDirectory Path dataDirectory) {
+    public ZCoreVelocity(ProxyServer server, Logger logger, @DataDirectory Path dataDirectory) {
+        this.server = server;
         this.logger = logger;
     }
 
+    /**
+     * Network-wide authority for pushing config/message snapshots to backends.
+     * Nothing is sent until a plugin tracks a document.
+     *
+     * @return SyncAuthority or null before proxy initialization
+     */
+    public static SyncAuthority getSyncAuthority() {
+        return syncAuthority;
+    }
+
     @Subscribe
     public void onProxyInitialization(ProxyInitializeEvent event) {
         logger.info("========================================");
@@ -36,5 +59,26 @@ public class ZCoreVelocity {
         logger.info("  ✓ BoostedYAML");
         logger.info("  ✓ ConfigManager, MessageManager, ColorUtil");
         logger.info("========================================");
+
+        Schedulers.set(Schedulers.velocity(this, server));
+        syncAuthority = new SyncAuthority(new VelocitySyncTransport(this, server));
+        CommandRegistry.register(this, new ZCoreCommand());
+    }
+
+    @Subscribe
+    public void onDisconnect(DisconnectEvent event) {
+        // Wartości placeholderów gracza nie czekają na wygaśnięcie po wyjściu z proxy
+        PlaceholderRegistry.shared().invalidatePlayer(event.getPlayer());
+    }
+
+    @Subscribe
+    public void onProxyShutdown(ProxyShutdownEvent event) {
+        if (syncAuthority != null) {
+            syncAuthority.close();
+            syncAuthority = null;
+        }
+        CommandAuditLog auditLog = CommandAuditLog.set(null);
+        if (auditLog != null) auditLog.close();
+        Schedulers.set(null);
     }
 }
\ No newline at end of file
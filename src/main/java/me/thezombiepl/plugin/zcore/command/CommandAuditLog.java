@@ -0,0 +1,397 @@
+package me.thezombiepl.plugin.zcore.command;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Optional audit log of every command dispatched by {@link PaperCommandRegistrar},
+ * {@link VelocityCommandRegistrar} and {@code HeadlessCommandMap}: time, platform, sender,
+ * command, arguments, outcome and duration.
+ * <p>
+ * The command thread only claims a slot in a bounded lock-free ring buffer. A background thread
+ * drains it in batches and appends each batch to {@code commands.log.gz} as a separate gzip member
+ * (the file stays readable with {@code zcat}); the file is rotated to {@code commands.1.log.gz} ...
+ * once it reaches the size limit. When the buffer is full new entries are dropped and counted
+ * ({@link #getDropped()}) - the command thread never waits for the disk.
+ * </p>
+ *
+ * <pre>{@code
+ * CommandAuditLog.set(new CommandAuditLog(new File(getDataFolder(), "audit")));
+ *
+ * // onDisable (ZCore also closes the installed log when it disables)
+ * CommandAuditLog log = CommandAuditLog.set(null);
+ * if (log != null) log.close();
+ * }</pre>
+ */
+public class CommandAuditLog {
+
+    public enum Outcome {
+        /** Command returned true */
+        SUCCESS,
+        /** Command returned false */
+        FAILURE,
+        /** Sender lacked the command's permission */
+        DENIED,
+        /** Command threw an exception */
+        ERROR
+    }
+
+    public static final String FILE_NAME = "commands.log.gz";
+
+    private static final int BATCH_SIZE = 1024;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ISO_INSTANT;
+
+    private static volatile CommandAuditLog active;
+
+    private final File folder;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final ScheduledExecutorService writer;
+
+    // Bufor MPSC: producenci rezerwują slot przez CAS na tail, jedyny konsument przesuwa head
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder writeErrors = new LongAdder();
+    private volatile boolean closed;
+    // Ostatni drain przy close() już ruszył - wpisy opublikowane później producent wycofuje sam
+    private volatile boolean finished;
+
+    /**
+     * Log with an 8192-entry buffer, 1 s flush interval and 5 files of up to 16 MB
+     *
+     * @param folder Folder with the audit files (created if needed)
+     */
+    public CommandAuditLog(File folder) {
+        this(folder, 8192, 1, TimeUnit.SECONDS, 16L * 1024 * 1024, 5);
+    }
+
+    /**
+     * @param capacity Buffered entries before new ones are dropped (rounded up to a power of two)
+     * @param flushInterval Delay between background drains
+     * @param maxFileBytes Compressed size at which the current file is rotated
+     * @param maxFiles Rotated files kept besides the current one
+     */
+    public CommandAuditLog(File folder, int capacity, long flushInterval, TimeUnit unit, long maxFileBytes, int maxFiles) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be >= 1");
+        if (maxFiles < 0) throw new IllegalArgumentException("maxFiles must be >= 0");
+        this.folder = folder;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+
+        this.writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ZCore-CommandAudit");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::drain, flushInterval, flushInterval, unit);
+    }
+
+    /**
+     * Installs the log used by the command registrars
+     *
+     * @param log Log to install, or null to stop auditing
+     * @return Previously installed log (not closed), or null
+     */
+    public static CommandAuditLog set(CommandAuditLog log) {
+        CommandAuditLog previous = active;
+        active = log;
+        return previous;
+    }
+
+    /**
+     * @return Installed log or null when auditing is off
+     */
+    public static CommandAuditLog get() {
+        return active;
+    }
+
+    /**
+     * Records a dispatch in the installed log, if any (hot path - never blocks)
+     */
+    static void audit(CommandContext.Platform platform, String sender, String command, String[] args,
+                      Outcome outcome, long nanos) {
+        CommandAuditLog log = active;
+        if (log != null) log.record(platform.name(), sender, command, args, outcome, nanos);
+    }
+
+    /**
+     * Queues an entry without blocking
+     *
+     * @return false if the buffer was full (or the log closed) and the entry was dropped
+     */
+    public boolean record(String platform, String sender, String command, String[] args, Outcome outcome, long nanos) {
+        if (closed) {
+            dropped.increment();
+            return false;
+        }
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head >= slots.length()) {
+                dropped.increment();
+                return false;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+
+        int index = (int) claimed & mask;
+        Entry entry = new Entry(System.currentTimeMillis(), platform, sender, command, args.clone(), outcome, nanos);
+        slots.set(index, entry);
+        // close() mógł minąć sprawdzenie closed; CAS rozstrzyga, czy wpis zabrał ostatni drain, czy przepadł
+        if (finished && slots.compareAndSet(index, entry, null)) {
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Writes everything buffered so far (e.g. before an investigation export). Blocks until written.
+     */
+    public void flush() {
+        if (closed) return;
+        try {
+            writer.submit(this::drain).get();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Stops the writer thread and writes the remaining entries on the calling thread.
+     * Entries recorded afterwards (or racing with the close) are dropped and counted.
+     */
+    public void close() {
+        if (closed) return;
+        closed = true;
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                System.err.println("[ZCore] Command audit writer did not stop in time, " + getPending() + " entries not written");
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        finished = true;
+        drainRemaining();
+    }
+
+    /* =========================
+       Metrics
+       ========================= */
+
+    /**
+     * Entries dropped because the buffer was full or the log was closed
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getWritten() {
+        return written.sum();
+    }
+
+    /**
+     * Entries lost because a batch could not be written to disk
+     */
+    public long getWriteErrors() {
+        return writeErrors.sum();
+    }
+
+    /**
+     * Entries waiting in the buffer
+     */
+    public long getPending() {
+        return Math.max(0L, tail.get() - head);
+    }
+
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /* =========================
+       Writer thread
+       ========================= */
+
+    private void drain() {
+        Entry[] batch = new Entry[BATCH_SIZE];
+        int count;
+        while ((count = poll(batch)) > 0) {
+            write(batch, count);
+        }
+    }
+
+    // Ostatni drain (wątek zapisu już zatrzymany): przechodzi wszystkie zarezerwowane sloty, także za pustymi
+    private void drainRemaining() {
+        Entry[] batch = new Entry[BATCH_SIZE];
+        int count = 0;
+        long end = tail.get();
+        for (long h = head; h < end; h++) {
+            // Pusty slot - producent jeszcze nie zapisał wpisu i wycofa go sam (finished = true)
+            Entry entry = slots.getAndSet((int) h & mask, null);
+            if (entry == null) continue;
+            batch[count++] = entry;
+            if (count == batch.length) {
+                write(batch, count);
+                count = 0;
+            }
+        }
+        head = end;
+        if (count > 0) write(batch, count);
+    }
+
+    private void write(Entry[] batch, int count) {
+        try {
+            writeBatch(batch, count);
+            written.add(count);
+        } catch (IOException | RuntimeException e) {
+            writeErrors.add(count);
+            System.err.println("[ZCore] Failed to write command audit batch: " + e.getMessage());
+        }
+        Arrays.fill(batch, 0, count, null);
+    }
+
+    // Pobiera kolejne opublikowane wpisy; slot zarezerwowany, ale jeszcze nie zapisany kończy paczkę
+    private int poll(Entry[] batch) {
+        long h = head;
+        int count = 0;
+        while (count < batch.length && h < tail.get()) {
+            int index = (int) h & mask;
+            Entry entry = slots.get(index);
+            if (entry == null) break;
+            slots.lazySet(index, null);
+            batch[count++] = entry;
+            h++;
+            head = h;
+        }
+        return count;
+    }
+
+    private void writeBatch(Entry[] batch, int count) throws IOException {
+        if (!folder.exists() && !folder.mkdirs()) {
+            throw new IOException("Cannot create audit folder: " + folder.getAbsolutePath());
+        }
+        File current = new File(folder, FILE_NAME);
+        if (current.length() >= maxFileBytes) rotate(current);
+
+        // Każda paczka to osobny człon gzip dopisany na końcu pliku
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(new FileOutputStream(current, true), 8192), StandardCharsets.UTF_8))) {
+            StringBuilder line = new StringBuilder(256);
+            for (int i = 0; i < count; i++) {
+                line.setLength(0);
+                batch[i].appendJson(line);
+                out.write(line.append('\n').toString());
+            }
+        }
+    }
+
+    // commands.log.gz -> commands.1.log.gz -> ... -> commands.<maxFiles>.log.gz (najstarszy usuwany)
+    private void rotate(File current) throws IOException {
+        File oldest = rotated(maxFiles);
+        if (oldest.exists() && !oldest.delete()) {
+            throw new IOException("Cannot delete " + oldest.getName());
+        }
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            File from = rotated(i);
+            if (from.exists() && !from.renameTo(rotated(i + 1))) {
+                throw new IOException("Cannot rotate " + from.getName());
+            }
+        }
+        if (maxFiles == 0) {
+            if (!current.delete()) throw new IOException("Cannot delete " + current.getName());
+        } else if (!current.renameTo(rotated(1))) {
+            throw new IOException("Cannot rotate " + current.getName());
+        }
+    }
+
+    private File rotated(int index) {
+        return new File(folder, "commands." + index + ".log.gz");
+    }
+
+    /* =========================
+       Entry
+       ========================= */
+
+    private static final class Entry {
+        final long time;
+        final String platform;
+        final String sender;
+        final String command;
+        final String[] args;
+        final Outcome outcome;
+        final long nanos;
+
+        Entry(long time, String platform, String sender, String command, String[] args, Outcome outcome, long nanos) {
+            this.time = time;
+            this.platform = platform;
+            this.sender = sender;
+            this.command = command;
+            this.args = args;
+            this.outcome = outcome;
+            this.nanos = nanos;
+        }
+
+        // Jedna linia JSON na wpis - formatowanie dopiero na wątku zapisu
+        void appendJson(StringBuilder out) {
+            out.append("{\"time\":\"").append(TIME_FORMAT.format(Instant.ofEpochMilli(time)))
+                    .append("\",\"platform\":\"").append(platform).append("\",\"sender\":");
+            quote(out, sender);
+            out.append(",\"command\":");
+            quote(out, command);
+            out.append(",\"args\":[");
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0) out.append(',');
+                quote(out, args[i]);
+            }
+            out.append("],\"outcome\":\"").append(outcome.name())
+                    .append("\",\"durationMs\":").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0))
+                    .append('}');
+        }
+
+        private static void quote(StringBuilder out, String value) {
+            if (value == null) {
+                out.append("null");
+                return;
+            }
+            out.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    out.append('\\').append(c);
+                } else if (c < 0x20) {
+                    out.append(String.format("\\u%04x", (int) c));
+                } else {
+                    out.append(c);
+                }
+            }
+            out.append('"');
+        }
+    }
+}
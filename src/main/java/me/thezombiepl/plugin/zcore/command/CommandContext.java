@@ -1,8 +1,16 @@
 package me.thezombiepl.plugin.zcore.command;
 
+import me.thezombiepl.plugin.zcore.scheduler.Schedulers;
+import me.thezombiepl.plugin.zcore.scheduler.ZScheduler;
+import me.thezombiepl.plugin.zcore.utils.CapabilityRenderer;
+import me.thezombiepl.plugin.zcore.utils.ClientCapability;
 import me.thezombiepl.plugin.zcore.utils.ColorUtil;
+import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Universal command context supporting Paper and Velocity platforms.
  * Provides cross-platform abstraction for command execution, permissions, and messaging.
@@ -13,20 +21,31 @@ public class CommandContext {
     private final String[] args;
     private final String label;
     private final Platform platform;
+    private final OutboundQueue outboundQueue;
     
     public enum Platform {
-        PAPER, VELOCITY
+        PAPER, VELOCITY,
+        /** Simulated platform from {@code me.thezombiepl.plugin.zcore.headless} (tests, load harness) */
+        HEADLESS
     }
     
     public CommandContext(Object sender, String[] args, String label, Platform platform) {
+        this(sender, args, label, platform, null);
+    }
+    
+    /**
+     * @param outboundQueue Queue that buffers replies, or null to send immediately
+     */
+    public CommandContext(Object sender, String[] args, String label, Platform platform, OutboundQueue outboundQueue) {
         this.sender = sender;
         this.args = args;
         this.label = label;
         this.platform = platform;
+        this.outboundQueue = outboundQueue;
     }
     
     /**
-     * Gets the raw sender object (CommandSender for Paper, CommandSource for Velocity)
+     * Gets the raw sender object (CommandSender for Paper, CommandSource for Velocity, HeadlessSender for Headless)
      */
     public Object getRawSender() {
         return sender;
@@ -67,6 +86,26 @@ public class CommandContext {
         return platform;
     }
     
+    /**
+     * Runs a task on the sender's owning thread (the player's region on Folia, main thread on Paper).
+     * Runs immediately when already on that thread or when no platform scheduler is installed.
+     */
+    public void runForSender(Runnable task) {
+        ZScheduler scheduler = Schedulers.get();
+        if (scheduler == null || platform != Platform.PAPER) {
+            task.run();
+        } else {
+            scheduler.executeFor(sender, task);
+        }
+    }
+    
+    /**
+     * Gets the outbound queue replies go through (null if sent immediately)
+     */
+    public OutboundQueue getOutboundQueue() {
+        return outboundQueue;
+    }
+    
     /**
      * Checks if sender has specified permission
      */
@@ -80,6 +119,8 @@ public class CommandContext {
                 return ((org.bukkit.command.CommandSender) sender).hasPermission(permission);
             case VELOCITY:
                 return ((com.velocitypowered.api.command.CommandSource) sender).hasPermission(permission);
+            case HEADLESS:
+                return ((me.thezombiepl.plugin.zcore.headless.HeadlessSender) sender).hasPermission(permission);
             default:
                 return false;
         }
@@ -89,31 +130,116 @@ public class CommandContext {
      * Sends a colored message to the sender
      */
     public void sendMessage(String message) {
-        Component colored = ColorUtil.colorize(message);
+        sendMessage(ColorUtil.colorize(message));
+    }
+    
+    /**
+     * Sends an already rendered component to the sender
+     */
+    public void sendMessage(Component message) {
+        if (message == null) return;
         
+        if (outboundQueue != null) {
+            outboundQueue.enqueue(sender, message);
+        } else {
+            deliver(sender, platform, message);
+        }
+    }
+    
+    /**
+     * Sends a component to a raw platform sender, bypassing any queue.
+     * On Folia the send runs on the player's region thread, hopping there on the next tick when
+     * called from another thread. On Paper/Spigot {@code sendMessage} is thread-safe and is called directly.
+     */
+    static void deliver(Object sender, Platform platform, Component message) {
+        if (platform == Platform.PAPER && Schedulers.isFolia()) {
+            ZScheduler scheduler = Schedulers.get();
+            if (scheduler != null && !scheduler.isOwnedByCurrentThread(sender)) {
+                scheduler.runAtEntity(sender, () -> send(sender, platform, message));
+                return;
+            }
+        }
+        send(sender, platform, message);
+    }
+    
+    private static void send(Object sender, Platform platform, Component message) {
+        ClientCapability capability = capabilityOf(sender, platform);
         switch (platform) {
             case PAPER:
-                // Paper requires serialization to String
-                ((org.bukkit.command.CommandSender) sender).sendMessage(
-                    ColorUtil.serialize(colored)
-                );
+                if (sender instanceof Audience) {
+                    // Paper 1.16.5+ natively supports Adventure Components
+                    ((Audience) sender).sendMessage(CapabilityRenderer.render(message, capability));
+                } else {
+                    // Spigot / legacy requires serialization to String
+                    String legacy = CapabilityRenderer.serialize(message, capability);
+                    if (sender instanceof org.bukkit.entity.Player && legacy.indexOf('\n') >= 0) {
+                        // sendMessage(String) splits the text into one packet per line - send the block as a single component
+                        ((org.bukkit.entity.Player) sender).spigot().sendMessage(
+                            net.md_5.bungee.api.chat.TextComponent.fromLegacyText(legacy)
+                        );
+                    } else {
+                        ((org.bukkit.command.CommandSender) sender).sendMessage(legacy);
+                    }
+                }
                 break;
             case VELOCITY:
                 // Velocity natively supports Adventure Components
-                ((com.velocitypowered.api.command.CommandSource) sender).sendMessage(colored);
+                ((com.velocitypowered.api.command.CommandSource) sender).sendMessage(
+                    CapabilityRenderer.render(message, capability)
+                );
+                break;
+            case HEADLESS:
+                ((me.thezombiepl.plugin.zcore.headless.HeadlessSender) sender).sendMessage(message);
                 break;
         }
     }
     
     /**
-     * Sends multiple messages
+     * Gets the rendering capabilities of the sender's client (hex colors, fonts, hover/click)
      */
-    public void sendMessages(String... messages) {
-        for (String message : messages) {
-            sendMessage(message);
+    public ClientCapability getClientCapability() {
+        return capabilityOf(sender, platform);
+    }
+    
+    static ClientCapability capabilityOf(Object sender, Platform platform) {
+        switch (platform) {
+            case PAPER:
+                if (sender instanceof org.bukkit.entity.Player) {
+                    // ViaVersion: the client may be older than the server, but never gets more than the server can send
+                    int protocol = ClientCapability.viaVersionProtocol(((org.bukkit.entity.Player) sender).getUniqueId());
+                    return protocol < 0
+                            ? ClientCapability.server()
+                            : ClientCapability.fromProtocol(protocol).cappedAt(ClientCapability.server());
+                }
+                // Console and other senders (also Spigot without Adventure) - same colors as the server
+                return ClientCapability.server();
+            case VELOCITY:
+                if (sender instanceof com.velocitypowered.api.proxy.Player) {
+                    return ClientCapability.fromProtocol(
+                        ((com.velocitypowered.api.proxy.Player) sender).getProtocolVersion().getProtocol()
+                    );
+                }
+                return ClientCapability.MODERN;
+            default:
+                return ClientCapability.MODERN;
         }
     }
     
+    /**
+     * Sends multiple lines as a single newline-joined component (one send per recipient)
+     */
+    public void sendMessages(String... messages) {
+        sendMessages(Arrays.asList(messages));
+    }
+    
+    /**
+     * Sends multiple lines (e.g. from {@code getMessageList}) as a single newline-joined component
+     */
+    public void sendMessages(List<String> messages) {
+        if (messages.isEmpty()) return;
+        sendMessage(ColorUtil.colorizeLines(messages));
+    }
+    
     /**
      * Checks if sender is a player
      */
@@ -123,6 +249,8 @@ public class CommandContext {
                 return sender instanceof org.bukkit.entity.Player;
             case VELOCITY:
                 return sender instanceof com.velocitypowered.api.proxy.Player;
+            case HEADLESS:
+                return ((me.thezombiepl.plugin.zcore.headless.HeadlessSender) sender).isPlayer();
             default:
                 return false;
         }
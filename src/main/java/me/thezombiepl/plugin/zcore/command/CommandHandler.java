@@ -1,12 +1,16 @@
 package me.thezombiepl.plugin.zcore.command;
 
 import me.thezombiepl.plugin.zcore.messages.MessageManager;
+import me.thezombiepl.plugin.zcore.utils.CacheStats;
+import me.thezombiepl.plugin.zcore.utils.ColorUtil;
+import net.kyori.adventure.text.Component;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Universal command handler with subcommand support.
@@ -14,8 +18,15 @@ import java.util.Objects;
  */
 public abstract class CommandHandler implements UniversalCommand {
 
-    protected final Map<String, SubCommand> subCommands = new HashMap<>();
+    // Concurrent: tab completion may read it off the main thread (Paper AsyncTabCompleteEvent, Velocity)
+    protected final Map<String, SubCommand> subCommands = new ConcurrentHashMap<>();
     private MessageManager messageManager;
+    private OutboundQueue outboundQueue;
+
+    // Prebuilt help pages keyed by language + visible subcommand set
+    private final Map<String, List<Component>> helpPages = new ConcurrentHashMap<>();
+    private final CacheStats helpCacheStats = new CacheStats();
+    private volatile long helpMessagesGeneration = -1L;
 
     /* =========================
        Message manager
@@ -23,12 +34,32 @@ public abstract class CommandHandler implements UniversalCommand {
 
     public void setMessageManager(MessageManager messageManager) {
         this.messageManager = messageManager;
+        helpPages.clear();
     }
 
     protected MessageManager getMessageManager() {
         return messageManager;
     }
 
+    /* =========================
+       Outbound queue
+       ========================= */
+
+    /**
+     * Routes replies of this command through a per-recipient queue (null = send immediately)
+     */
+    public void setOutboundQueue(OutboundQueue outboundQueue) {
+        this.outboundQueue = outboundQueue;
+    }
+
+    public OutboundQueue getOutboundQueue() {
+        return outboundQueue;
+    }
+
+    static OutboundQueue queueOf(UniversalCommand command) {
+        return command instanceof CommandHandler ? ((CommandHandler) command).getOutboundQueue() : null;
+    }
+
     /* =========================
        Registration
        ========================= */
@@ -37,6 +68,23 @@ public abstract class CommandHandler implements UniversalCommand {
         Objects.requireNonNull(name, "name");
         Objects.requireNonNull(command, "command");
         subCommands.put(name.toLowerCase(), command);
+        helpPages.clear();
+    }
+
+    /**
+     * Registers a "help [page]" subcommand backed by {@link #sendHelp(CommandContext, int)}
+     */
+    protected void registerHelpSubCommand() {
+        registerSubCommand("help", SubCommands.simple(context -> {
+            int page = 1;
+            if (context.getArgsLength() > 0) {
+                try {
+                    page = Integer.parseInt(context.getArg(0));
+                } catch (NumberFormatException ignored) {
+                }
+            }
+            return sendHelp(context, page);
+        }));
     }
 
     /* =========================
@@ -69,7 +117,8 @@ public abstract class CommandHandler implements UniversalCommand {
                 context.getRawSender(),
                 trimmedArgs,
                 context.getLabel() + " " + subName,
-                context.getPlatform()
+                context.getPlatform(),
+                context.getOutboundQueue()
         );
 
         return sub.execute(subContext);
@@ -94,6 +143,145 @@ public abstract class CommandHandler implements UniversalCommand {
         return list;
     }
 
+    /**
+     * Computes tab completions for the context's arguments: subcommand names for the first
+     * argument, then {@link SubCommand#suggest(CommandContext)} of the chosen subcommand.
+     * Results are filtered by the typed prefix.
+     * <p>
+     * May run off the main thread (Paper async completion, Velocity) - see {@link SubCommand#suggest}.
+     * </p>
+     */
+    public List<String> complete(CommandContext context) {
+        String[] args = context.getArgs();
+        if (args.length <= 1) {
+            return filterPrefix(getSubCommandNames(context), args.length == 1 ? args[0] : "");
+        }
+
+        String subName = args[0].toLowerCase();
+        SubCommand sub = subCommands.get(subName);
+        if (sub == null || (sub.permission() != null && !context.hasPermission(sub.permission()))) {
+            return new ArrayList<>();
+        }
+
+        String[] trimmedArgs = new String[args.length - 1];
+        System.arraycopy(args, 1, trimmedArgs, 0, trimmedArgs.length);
+        CommandContext subContext = new CommandContext(
+                context.getRawSender(),
+                trimmedArgs,
+                context.getLabel() + " " + subName,
+                context.getPlatform()
+        );
+
+        List<String> suggestions = sub.suggest(subContext);
+        if (suggestions == null || suggestions.isEmpty()) return new ArrayList<>();
+        return filterPrefix(suggestions, trimmedArgs[trimmedArgs.length - 1]);
+    }
+
+    private static List<String> filterPrefix(List<String> suggestions, String typed) {
+        String prefix = typed.toLowerCase();
+        List<String> filtered = new ArrayList<>();
+        for (String s : suggestions) {
+            if (s.toLowerCase().startsWith(prefix)) filtered.add(s);
+        }
+        return filtered;
+    }
+
+    /* =========================
+       Help
+       ========================= */
+
+    /**
+     * Sends one help page (1-based, clamped) listing the subcommands the sender can use.
+     * Pages are rendered once per distinct visible-subcommand set and language and reused
+     * until a subcommand is registered or the messages reload.
+     */
+    public boolean sendHelp(CommandContext context, int page) {
+        List<Component> pages = getHelpPages(context);
+        int index = Math.max(1, Math.min(page, pages.size())) - 1;
+        context.sendMessage(pages.get(index));
+        return true;
+    }
+
+    /**
+     * Returns the prebuilt help pages for the sender (never empty)
+     */
+    public List<Component> getHelpPages(CommandContext context) {
+        MessageManager messages = messageManager;
+        if (messages != null && messages.getGeneration() != helpMessagesGeneration) {
+            helpPages.clear();
+            helpMessagesGeneration = messages.getGeneration();
+        }
+
+        List<String> visible = getSubCommandNames(context);
+        Collections.sort(visible);
+
+        StringBuilder key = new StringBuilder(messages != null ? messages.getCurrentLanguage() : "-");
+        for (String name : visible) {
+            key.append('|').append(name);
+        }
+
+        List<Component> cached = helpPages.get(key.toString());
+        if (cached != null) {
+            helpCacheStats.hit();
+            return cached;
+        }
+        helpCacheStats.miss();
+        List<Component> rendered = renderHelpPages(visible);
+        helpPages.put(key.toString(), rendered);
+        return rendered;
+    }
+
+    public CacheStats getHelpCacheStats() {
+        return helpCacheStats;
+    }
+
+    /**
+     * Number of subcommands per help page
+     */
+    protected int getHelpPageSize() {
+        return 8;
+    }
+
+    private List<Component> renderHelpPages(List<String> visible) {
+        String header = helpMessage("messages.help-header", "&8&m-----&r &6/{command} &7({page}/{pages}) &8&m-----");
+        String entry = helpMessage("messages.help-entry", "&e/{command} {name} &8- &7{description}");
+        String footer = helpMessage("messages.help-footer", "");
+
+        int pageSize = Math.max(1, getHelpPageSize());
+        int pageCount = Math.max(1, (visible.size() + pageSize - 1) / pageSize);
+        List<Component> pages = new ArrayList<>(pageCount);
+
+        for (int page = 0; page < pageCount; page++) {
+            List<String> lines = new ArrayList<>(pageSize + 2);
+            lines.add(fillHelp(header, page + 1, pageCount));
+            int end = Math.min(visible.size(), (page + 1) * pageSize);
+            for (int i = page * pageSize; i < end; i++) {
+                String name = visible.get(i);
+                SubCommand sub = subCommands.get(name);
+                String description = sub != null ? sub.description() : "";
+                lines.add(fillHelp(entry, page + 1, pageCount)
+                        .replace("{name}", name)
+                        .replace("{description}", description != null ? description : ""));
+            }
+            if (!footer.isEmpty()) {
+                lines.add(fillHelp(footer, page + 1, pageCount));
+            }
+            pages.add(ColorUtil.colorizeLines(lines));
+        }
+        return Collections.unmodifiableList(pages);
+    }
+
+    private String helpMessage(String key, String def) {
+        return messageManager != null ? messageManager.getMessage(key, def) : def;
+    }
+
+    private String fillHelp(String template, int page, int pages) {
+        return template
+                .replace("{command}", getName())
+                .replace("{page}", String.valueOf(page))
+                .replace("{pages}", String.valueOf(pages));
+    }
+
     /* =========================
        Hooks
        ========================= */
@@ -135,6 +323,21 @@ public abstract class CommandHandler implements UniversalCommand {
         default String description() {
             return "";
         }
+
+        /**
+         * Suggestions for the subcommand's arguments (context args exclude the subcommand name).
+         * <p>
+         * Thread-safety contract: on Paper this is called from the async tab-complete thread and on
+         * Velocity from the proxy's command threads. Implementations must not touch world, entity or
+         * other main-thread state - only read immutable or thread-safe data (e.g. snapshots,
+         * concurrent collections, {@code Bukkit.getOnlinePlayers()} names cached elsewhere).
+         * </p>
+         *
+         * @return Suggestions (filtered by the typed prefix afterwards), never null
+         */
+        default List<String> suggest(CommandContext context) {
+            return Collections.emptyList();
+        }
     }
 
     /* =========================
@@ -165,6 +368,11 @@ public abstract class CommandHandler implements UniversalCommand {
                 public String description() {
                     return inner.description();
                 }
+
+                @Override
+                public List<String> suggest(CommandContext context) {
+                    return inner.suggest(context);
+                }
             };
         }
         
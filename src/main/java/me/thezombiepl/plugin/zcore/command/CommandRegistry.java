@@ -1,5 +1,7 @@
 package me.thezombiepl.plugin.zcore.command;
 
+import me.thezombiepl.plugin.zcore.profiling.Diagnostics;
+
 /**
  * Universal command registry.
  * Clean entry point that delegates to platform-specific implementations via reflection.
@@ -26,6 +28,7 @@ public class CommandRegistry {
             else {
                 throw new IllegalStateException("Unsupported platform: " + platform);
             }
+            Diagnostics.track(Diagnostics.ownerOf(plugin), command);
         } catch (Exception e) {
             System.err.println("[ZCore] Failed to register command: " + command.getName());
             e.printStackTrace();
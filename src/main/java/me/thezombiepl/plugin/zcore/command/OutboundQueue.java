@@ -0,0 +1,179 @@
+package me.thezombiepl.plugin.zcore.command;
+
+import me.thezombiepl.plugin.zcore.scheduler.Schedulers;
+import me.thezombiepl.plugin.zcore.scheduler.ZScheduler;
+import me.thezombiepl.plugin.zcore.scheduler.ZTask;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional per-recipient outbound message queue.
+ * <p>
+ * Messages are buffered and flushed once per tick (Paper/Folia) or every 50 ms (Velocity).
+ * Identical consecutive messages collapse into one line with a repeat counter, and each
+ * recipient gets at most {@code maxPerFlush} lines per flush, delivered as a single send.
+ * Excess lines are dropped and counted.
+ * </p>
+ *
+ * <pre>{@code
+ * OutboundQueue queue = new OutboundQueue(CommandContext.Platform.PAPER, 10, true);
+ * queue.startBukkit(plugin);
+ * myCommandHandler.setOutboundQueue(queue);
+ * }</pre>
+ */
+public class OutboundQueue {
+
+    private final CommandContext.Platform platform;
+    private final int maxPerFlush;
+    private final boolean showRepeatCount;
+    private final Map<Object, Pending> pending = new ConcurrentHashMap<>();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile Runnable stopTask;
+
+    /**
+     * @param platform Platform of the recipients queued here
+     * @param maxPerFlush Maximum lines delivered to one recipient per flush
+     * @param showRepeatCount Append " (xN)" to collapsed duplicates instead of silently deduplicating
+     */
+    public OutboundQueue(CommandContext.Platform platform, int maxPerFlush, boolean showRepeatCount) {
+        if (maxPerFlush < 1) throw new IllegalArgumentException("maxPerFlush must be >= 1");
+        this.platform = platform;
+        this.maxPerFlush = maxPerFlush;
+        this.showRepeatCount = showRepeatCount;
+    }
+
+    /**
+     * Queues a message for the recipient. Safe to call from any thread.
+     */
+    public void enqueue(Object recipient, Component message) {
+        if (recipient == null || message == null) return;
+
+        Pending queue = pending.get(recipient);
+        if (queue == null) {
+            Pending created = new Pending();
+            queue = pending.putIfAbsent(recipient, created);
+            if (queue == null) queue = created;
+        }
+
+        synchronized (queue) {
+            if (queue.drained) {
+                // Kolejka została właśnie opróżniona przez flush - zaczynamy nową
+                pending.remove(recipient, queue);
+                enqueue(recipient, message);
+                return;
+            }
+            int last = queue.lines.size() - 1;
+            if (last >= 0 && queue.lines.get(last).equals(message)) {
+                queue.counts.set(last, queue.counts.get(last) + 1);
+                collapsed.increment();
+            } else if (queue.lines.size() >= maxPerFlush) {
+                dropped.increment();
+            } else {
+                queue.lines.add(message);
+                queue.counts.add(1);
+            }
+        }
+    }
+
+    /**
+     * Delivers everything queued so far, one send per recipient
+     */
+    public void flush() {
+        for (Object recipient : pending.keySet()) {
+            Pending queue = pending.remove(recipient);
+            if (queue == null) continue;
+
+            List<Component> lines;
+            synchronized (queue) {
+                queue.drained = true;
+                lines = new ArrayList<>(queue.lines.size());
+                for (int i = 0; i < queue.lines.size(); i++) {
+                    Component line = queue.lines.get(i);
+                    int count = queue.counts.get(i);
+                    if (count > 1 && showRepeatCount) {
+                        line = line.append(Component.text(" (x" + count + ")", NamedTextColor.GRAY));
+                    }
+                    lines.add(line);
+                }
+            }
+            if (lines.isEmpty()) continue;
+
+            Component message = lines.size() == 1
+                    ? lines.get(0)
+                    : Component.join(JoinConfiguration.newlines(), lines);
+            try {
+                CommandContext.deliver(recipient, platform, message);
+                delivered.add(lines.size());
+            } catch (Exception e) {
+                System.err.println("[ZCore] Failed to deliver queued message: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Starts flushing every tick on the scheduler's global thread.
+     * On Folia each recipient's batch is then delivered on the thread owning that player.
+     */
+    public void start(ZScheduler scheduler) {
+        stop();
+        ZTask task = scheduler.runGlobalTimer(this::flush, 1L, 1L);
+        stopTask = task::cancel;
+    }
+
+    /**
+     * Starts flushing every server tick (Paper/Spigot/Folia)
+     */
+    public void startBukkit(Object plugin) {
+        start(Schedulers.bukkit(plugin));
+    }
+
+    /**
+     * Starts flushing every 50 ms using the Velocity scheduler
+     */
+    public void startVelocity(Object plugin, Object proxy) {
+        start(Schedulers.velocity(plugin, proxy));
+    }
+
+    /**
+     * Stops periodic flushing and delivers whatever is still queued
+     */
+    public void stop() {
+        Runnable task = stopTask;
+        stopTask = null;
+        if (task != null) {
+            task.run();
+            flush();
+        }
+    }
+
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+
+    public long getCollapsedCount() {
+        return collapsed.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public int getPendingRecipients() {
+        return pending.size();
+    }
+
+    private static final class Pending {
+        final List<Component> lines = new ArrayList<>(4);
+        final List<Integer> counts = new ArrayList<>(4);
+        boolean drained;
+    }
+}
@@ -0,0 +1,136 @@
+package me.thezombiepl.plugin.zcore.command;
+
+import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
+import org.bukkit.command.CommandSender;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers tab completion of ZCore commands from Paper's {@link AsyncTabCompleteEvent},
+ * off the main thread. On Spigot (no such event) the synchronous {@code Command#tabComplete}
+ * override in {@link PaperCommandRegistrar} is used instead.
+ * <p>
+ * Suggestions come from {@link CommandHandler#complete(CommandContext)}, so subcommand
+ * suggestion providers must follow the contract of {@link CommandHandler.SubCommand#suggest}.
+ * </p>
+ * <p>
+ * Every owning plugin gets its own listener registered under that plugin, so disabling one plugin
+ * only stops completion of its own commands; its entries are dropped when it is disabled.
+ * </p>
+ */
+public final class PaperAsyncTabCompleter {
+
+    private static final boolean SUPPORTED = classExists("com.destroystokyo.paper.event.server.AsyncTabCompleteEvent");
+
+    // Nazwa pluginu -> jego listener z etykietami komend
+    private static final Map<String, AsyncListener> listeners = new ConcurrentHashMap<>();
+
+    private PaperAsyncTabCompleter() {}
+
+    /**
+     * Enables async completion for a command (no-op on Spigot or for non-CommandHandler commands)
+     *
+     * @param ownsLabel Whether the command map gave the command its bare name (otherwise only {@code plugin:name})
+     * @param aliases Aliases the command map actually registered
+     */
+    static void track(Plugin plugin, UniversalCommand command, boolean ownsLabel, Collection<String> aliases) {
+        if (!SUPPORTED || !(command instanceof CommandHandler)) return;
+
+        AsyncListener listener = listenerOf(plugin);
+        CommandHandler handler = (CommandHandler) command;
+        String namespace = plugin.getName().toLowerCase() + ":";
+        if (ownsLabel) listener.labels.put(command.getName().toLowerCase(), handler);
+        listener.labels.put(namespace + command.getName().toLowerCase(), handler);
+        for (String alias : aliases) {
+            listener.labels.put(alias.toLowerCase(), handler);
+            listener.labels.put(namespace + alias.toLowerCase(), handler);
+        }
+    }
+
+    // Nowy listener po pierwszym track() pluginu lub po jego przeładowaniu (nowa instancja / wyłączony)
+    private static synchronized AsyncListener listenerOf(Plugin plugin) {
+        AsyncListener listener = listeners.get(plugin.getName());
+        if (listener != null && listener.owner == plugin && plugin.isEnabled()) return listener;
+
+        listener = new AsyncListener(plugin);
+        listeners.put(plugin.getName(), listener);
+        plugin.getServer().getPluginManager().registerEvents(listener, plugin);
+        return listener;
+    }
+
+    /**
+     * @return true if the server fires AsyncTabCompleteEvent (Paper)
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    private static boolean classExists(String name) {
+        try {
+            Class.forName(name);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    // Osobna klasa - ładowana tylko na Paperze, gdzie istnieje AsyncTabCompleteEvent
+    private static final class AsyncListener implements Listener {
+
+        final Plugin owner;
+        // Etykieta (nazwa lub alias, małe litery) -> komenda tego pluginu
+        final Map<String, CommandHandler> labels = new ConcurrentHashMap<>();
+
+        AsyncListener(Plugin owner) {
+            this.owner = owner;
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPluginDisable(PluginDisableEvent event) {
+            // Bukkit sam wyrejestruje ten listener; usuwamy referencje do komend wyłączonego pluginu
+            if (event.getPlugin() == owner) listeners.remove(owner.getName(), this);
+        }
+
+        @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+        public void onAsyncTabComplete(AsyncTabCompleteEvent event) {
+            if (event.isHandled() || !event.isCommand()) return;
+
+            String buffer = event.getBuffer();
+            String line = buffer.startsWith("/") ? buffer.substring(1) : buffer;
+            int space = line.indexOf(' ');
+            // Bez spacji gracz wciąż wpisuje nazwę komendy - to obsługuje serwer
+            if (space < 0) return;
+
+            String label = line.substring(0, space);
+            CommandHandler command = labels.get(label.toLowerCase());
+            if (command == null) return;
+
+            CommandSender sender = event.getSender();
+            if (command.getPermission() != null && !sender.hasPermission(command.getPermission())) {
+                event.setCompletions(Collections.<String>emptyList());
+                event.setHandled(true);
+                return;
+            }
+
+            String[] parts = line.split(" ", -1);
+            String[] args = Arrays.copyOfRange(parts, 1, parts.length);
+            try {
+                CommandContext context = new CommandContext(sender, args, label, CommandContext.Platform.PAPER);
+                event.setCompletions(command.complete(context));
+                event.setHandled(true);
+            } catch (Exception e) {
+                // Zostawiamy obsługę ścieżce synchronicznej
+                System.err.println("[ZCore] Async tab completion failed for /" + label + ": " + e);
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package me.thezombiepl.plugin.zcore.command;
 
+import me.thezombiepl.plugin.zcore.profiling.Diagnostics;
+import me.thezombiepl.plugin.zcore.profiling.Profiler;
 import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandMap;
@@ -29,6 +31,7 @@ public class PaperCommandRegistrar {
             ) {
                 @Override
                 public boolean execute(CommandSender sender, String label, String[] args) {
+                    long start = System.nanoTime();
                     try {
                         // Sprawdzenie uprawnień dla głównej komendy
                         if (command.getPermission() != null && !sender.hasPermission(command.getPermission())) {
@@ -40,15 +43,28 @@ public class PaperCommandRegistrar {
                             sender.sendMessage(me.thezombiepl.plugin.zcore.utils.ColorUtil.serialize(
                                 me.thezombiepl.plugin.zcore.utils.ColorUtil.colorize(errorMsg)
                             ));
+                            CommandAuditLog.audit(CommandContext.Platform.PAPER, sender.getName(), command.getName(), args,
+                                CommandAuditLog.Outcome.DENIED, System.nanoTime() - start);
                             return true;
                         }
 
                         // Wykonanie komendy
-                        command.execute(new CommandContext(sender, args, label, CommandContext.Platform.PAPER));
-                        
+                        Profiler.CommandSpan span = Profiler.commandDispatch();
+                        try {
+                            boolean result = command.execute(new CommandContext(sender, args, label, CommandContext.Platform.PAPER, CommandHandler.queueOf(command)));
+                            CommandAuditLog.audit(CommandContext.Platform.PAPER, sender.getName(), command.getName(), args,
+                                result ? CommandAuditLog.Outcome.SUCCESS : CommandAuditLog.Outcome.FAILURE, System.nanoTime() - start);
+                        } finally {
+                            // Także gdy komenda rzuci wyjątek - wolne i błędne wywołania są w statystykach
+                            Diagnostics.recordCommand(plugin.getName(), command.getName(), System.nanoTime() - start);
+                            span.end(command.getName(), args.length > 0 ? args[0] : "", false);
+                        }
+
                         // Zawsze zwracamy true, ponieważ CommandHandler sam obsługuje wiadomości o błędnym użyciu
                         return true;
                     } catch (Exception e) {
+                        CommandAuditLog.audit(CommandContext.Platform.PAPER, sender.getName(), command.getName(), args,
+                            CommandAuditLog.Outcome.ERROR, System.nanoTime() - start);
                         sender.sendMessage("§cWystąpił błąd wewnętrzny podczas wykonywania tej komendy.");
                         e.printStackTrace();
                         return true;
@@ -57,29 +73,19 @@ public class PaperCommandRegistrar {
 
                 @Override
 				public List<String> tabComplete(CommandSender sender, String alias, String[] args) {
+					// Ścieżka synchroniczna (Spigot) - na Paperze odpowiada PaperAsyncTabCompleter
 					if (!(command instanceof CommandHandler)) return new ArrayList<>();
 					
 					CommandContext context = new CommandContext(sender, args, alias, CommandContext.Platform.PAPER);
-					List<String> suggestions = ((CommandHandler) command).getSubCommandNames(context);
-
-					// Jeśli wpisujemy pierwszy argument (np. /zguard [tab])
-					if (args.length <= 1) {
-						String lastArg = args.length == 1 ? args[0].toLowerCase() : "";
-						List<String> filtered = new ArrayList<>();
-						for (String s : suggestions) {
-							if (s.toLowerCase().startsWith(lastArg)) filtered.add(s);
-						}
-						return filtered;
-					}
-					
-					// Jeśli wpisujemy kolejne argumenty, zwracamy pustą listę, 
-					// co pozwoli na wpisywanie dowolnego tekstu (nie blokuje Brigadiera)
-					return new ArrayList<>();
+					return ((CommandHandler) command).complete(context);
 				}
             };
 
             // Rejestracja komendy w mapie serwera
-            commandMap.register(plugin.getName().toLowerCase(), paperCommand);
+            // false = nazwa zajęta przez inny plugin, dostępna tylko jako plugin:nazwa;
+            // aliasy, których nie udało się zarejestrować, są usuwane z getAliases()
+            boolean ownsLabel = commandMap.register(plugin.getName().toLowerCase(), paperCommand);
+            PaperAsyncTabCompleter.track(plugin, command, ownsLabel, paperCommand.getAliases());
             plugin.getLogger().info("Registered Bukkit command: " + command.getName());
 
         } catch (Exception e) {
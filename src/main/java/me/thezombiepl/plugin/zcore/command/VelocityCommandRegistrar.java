@@ -2,8 +2,12 @@ package me.thezombiepl.plugin.zcore.command;
 
 import com.velocitypowered.api.command.CommandManager;
 import com.velocitypowered.api.command.CommandMeta;
+import com.velocitypowered.api.command.CommandSource;
 import com.velocitypowered.api.command.SimpleCommand;
+import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
+import me.thezombiepl.plugin.zcore.profiling.Diagnostics;
+import me.thezombiepl.plugin.zcore.profiling.Profiler;
 import java.util.List;
 import java.util.Collections;
 
@@ -43,19 +47,51 @@ public class VelocityCommandRegistrar {
             }
 
             if (cmdMgr == null) throw new IllegalStateException("CommandManager is null");
+            String owner = Diagnostics.ownerOf(proxyObj);
 
             // Tworzymy implementację SimpleCommand, która idealnie pasuje do Twojego systemu
             SimpleCommand velocityCommand = new SimpleCommand() {
                 @Override
                 public void execute(Invocation invocation) {
+                    long start = System.nanoTime();
+                    if (command.getPermission() != null && !invocation.source().hasPermission(command.getPermission())) {
+                        // Uprawnienie mogło zostać odebrane po zbudowaniu drzewa komend
+                        String errorMsg = "&cYou don't have permission!";
+                        if (command instanceof CommandHandler) {
+                            CommandContext dummy = new CommandContext(invocation.source(), invocation.arguments(),
+                                command.getName(), CommandContext.Platform.VELOCITY);
+                            errorMsg = ((CommandHandler) command).getNoPermissionMessage(dummy);
+                        }
+                        invocation.source().sendMessage(me.thezombiepl.plugin.zcore.utils.ColorUtil.colorize(errorMsg));
+                        CommandAuditLog.audit(CommandContext.Platform.VELOCITY, senderName(invocation.source()), command.getName(),
+                            invocation.arguments(), CommandAuditLog.Outcome.DENIED, System.nanoTime() - start);
+                        return;
+                    }
+
+                    Profiler.CommandSpan span = Profiler.commandDispatch();
                     // Konwersja Invocation (Velocity) na Twój uniwersalny CommandContext
                     CommandContext context = new CommandContext(
                         invocation.source(),
                         invocation.arguments(),
                         command.getName(),
-                        CommandContext.Platform.VELOCITY
+                        CommandContext.Platform.VELOCITY,
+                        CommandHandler.queueOf(command)
                     );
-                    command.execute(context);
+                    try {
+                        boolean result = command.execute(context);
+                        CommandAuditLog.audit(CommandContext.Platform.VELOCITY, senderName(invocation.source()), command.getName(),
+                            invocation.arguments(), result ? CommandAuditLog.Outcome.SUCCESS : CommandAuditLog.Outcome.FAILURE,
+                            System.nanoTime() - start);
+                    } catch (RuntimeException e) {
+                        CommandAuditLog.audit(CommandContext.Platform.VELOCITY, senderName(invocation.source()), command.getName(),
+                            invocation.arguments(), CommandAuditLog.Outcome.ERROR, System.nanoTime() - start);
+                        throw e;
+                    } finally {
+                        // Także gdy komenda rzuci wyjątek - wolne i błędne wywołania są w statystykach
+                        Diagnostics.recordCommand(owner, command.getName(), System.nanoTime() - start);
+                        // Velocity wykonuje komendy poza wątkiem sieciowym - zawsze asynchronicznie
+                        span.end(command.getName(), invocation.arguments().length > 0 ? invocation.arguments()[0] : "", true);
+                    }
                 }
 
                 @Override
@@ -68,14 +104,16 @@ public class VelocityCommandRegistrar {
                             command.getName(),
                             CommandContext.Platform.VELOCITY
                         );
-                        return ((CommandHandler) command).getSubCommandNames(context);
+                        // Velocity wywołuje suggest poza głównym wątkiem - patrz SubCommand#suggest
+                        return ((CommandHandler) command).complete(context);
                     }
                     return Collections.emptyList();
                 }
 
                 @Override
                 public boolean hasPermission(Invocation invocation) {
-                    // Sprawdzanie uprawnień głównej komendy
+                    // Sprawdzanie uprawnień głównej komendy (Velocity woła to też przy budowaniu drzewa komend
+                    // i podpowiedziach - bez audytu, DENIED zapisuje dopiero execute())
                     if (command.getPermission() == null) return true;
                     return invocation.source().hasPermission(command.getPermission());
                 }
@@ -95,4 +133,8 @@ public class VelocityCommandRegistrar {
             e.printStackTrace();
         }
     }
+
+    private static String senderName(CommandSource source) {
+        return source instanceof Player ? ((Player) source).getUsername() : "CONSOLE";
+    }
 }
\ No newline at end of file
@@ -6,12 +6,19 @@ import dev.dejvokep.boostedyaml.settings.dumper.DumperSettings;
 import dev.dejvokep.boostedyaml.settings.general.GeneralSettings;
 import dev.dejvokep.boostedyaml.settings.loader.LoaderSettings;
 import dev.dejvokep.boostedyaml.settings.updater.UpdaterSettings;
+import me.thezombiepl.plugin.zcore.profiling.Diagnostics;
+import me.thezombiepl.plugin.zcore.profiling.Profiler;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Manager do zarządzania plikami konfiguracyjnymi używając BoostedYAML.
@@ -23,9 +30,14 @@ import java.nio.file.Files;
  * @author THEzombiePL
  * @version 1.0.0
  */
-public class ConfigManager {
+public class ConfigManager implements Snapshottable {
 
-    private final YamlDocument config;
+    private final File configFile;
+    // Źródło domyślnej konfiguracji - reload() po snapshocie tworzy dokument tak samo jak konstruktor
+    private final Supplier<InputStream> defaults;
+    // false dla dokumentów YamlDataStore - setki plików per gracz nie trafiają do /zcore
+    private final boolean tracked;
+    private volatile YamlDocument config;
 
     /**
      * Tworzy nowy ConfigManager i ładuje plik konfiguracyjny.
@@ -39,16 +51,16 @@ public class ConfigManager {
      * @throws IOException Jeśli wystąpi błąd podczas ładowania lub tworzenia pliku
      */
     public ConfigManager(JavaPlugin plugin, String fileName) throws IOException {
-        File configFile = new File(plugin.getDataFolder(), fileName);
-
-        this.config = YamlDocument.create(
-                configFile,
-                plugin.getResource(fileName),
-                GeneralSettings.DEFAULT,
-                LoaderSettings.builder().setAutoUpdate(true).build(),
-                DumperSettings.DEFAULT,
-                UpdaterSettings.builder().setVersioning(new BasicVersioning("config-version")).build()
-        );
+        this.configFile = new File(plugin.getDataFolder(), fileName);
+        this.defaults = () -> plugin.getResource(fileName);
+        this.tracked = true;
+
+        Profiler.FileSpan span = Profiler.fileOperation();
+        long start = System.nanoTime();
+        this.config = createYamlDocument(configFile, defaults.get());
+        span.end("load", configFile.getName(), configFile.length());
+        Diagnostics.recordFile("config.load", System.nanoTime() - start);
+        Diagnostics.track(Diagnostics.ownerOf(plugin), this);
     }
 
     /**
@@ -66,17 +78,64 @@ public class ConfigManager {
 			throw new IOException("Nie udało się utworzyć folderu: " + dataFolder.getAbsolutePath());
 		}
 
-		File configFile = new File(dataFolder, fileName);
+		this.configFile = new File(dataFolder, fileName);
+
+		// Strumień da się przeczytać tylko raz - trzymamy bajty na kopię pliku, updater i reload()
+		byte[] defaultBytes = defaults != null ? readAll(defaults) : null;
+		this.defaults = () -> defaultBytes != null ? new ByteArrayInputStream(defaultBytes) : null;
+		this.tracked = true;
 
 		if (!configFile.exists()) {
-			if (defaults != null) {
-				Files.copy(defaults, configFile.toPath());
+			if (defaultBytes != null) {
+				Files.copy(this.defaults.get(), configFile.toPath());
 			} else {
 				configFile.createNewFile();
 			}
 		}
 
-		this.config = createYamlDocument(configFile, defaults);
+		Profiler.FileSpan span = Profiler.fileOperation();
+		long start = System.nanoTime();
+		this.config = createYamlDocument(configFile, this.defaults.get());
+		span.end("load", configFile.getName(), configFile.length());
+		Diagnostics.recordFile("config.load", System.nanoTime() - start);
+		Diagnostics.track(dataFolder.getName(), this);
+	}
+
+	/**
+	 * Dokument danych dla {@link YamlDataStore}: brak pliku nie tworzy go na dysku (pusty dokument
+	 * zostanie zapisany dopiero przez {@link #save()}), a menedżer nie jest rejestrowany w {@link Diagnostics}.
+	 *
+	 * @param configFile Plik danych (może nie istnieć)
+	 * @throws IOException Jeśli istniejącego pliku nie da się wczytać
+	 */
+	ConfigManager(File configFile) throws IOException {
+		this.configFile = configFile;
+		this.defaults = () -> null;
+		this.tracked = false;
+		if (configFile.exists()) {
+			this.config = YamlDocument.create(
+					configFile,
+					GeneralSettings.DEFAULT,
+					LoaderSettings.DEFAULT,
+					DumperSettings.DEFAULT,
+					UpdaterSettings.DEFAULT
+			);
+		} else {
+			// Dokument bez pliku - save() zapisze go do configFile
+			this.config = YamlDocument.create(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+		}
+	}
+
+	private static byte[] readAll(InputStream in) throws IOException {
+		try (InputStream stream = in) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = stream.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+			return out.toByteArray();
+		}
 	}
 
 	private YamlDocument createYamlDocument(File configFile, InputStream defaults) throws IOException {
@@ -138,8 +197,19 @@ public class ConfigManager {
      * 
      * @throws IOException Jeśli wystąpi błąd podczas odczytu pliku
      */
-    public void reload() throws IOException {
-        config.reload();
+    public synchronized void reload() throws IOException {
+        Profiler.FileSpan span = Profiler.fileOperation();
+        long start = System.nanoTime();
+        YamlDocument current = config;
+        if (current.getFile() == null) {
+            // Dokument pochodzi ze snapshotu (brak pliku) - wczytujemy go od nowa z dysku
+            // z tymi samymi ustawieniami (wersjonowanie, auto-update, defaults) co przy tworzeniu
+            this.config = createYamlDocument(configFile, defaults.get());
+        } else {
+            current.reload();
+        }
+        span.end("reload", configFile.getName(), configFile.length());
+        if (tracked) Diagnostics.recordFile("config.reload", System.nanoTime() - start);
     }
 
     /**
@@ -151,7 +221,16 @@ public class ConfigManager {
      * @throws IOException Jeśli wystąpi błąd podczas zapisu do pliku
      */
     public void save() throws IOException {
-        config.save();
+        Profiler.FileSpan span = Profiler.fileOperation();
+        long start = System.nanoTime();
+        YamlDocument current = config;
+        if (current.getFile() == null) {
+            current.save(configFile);
+        } else {
+            current.save();
+        }
+        span.end("save", configFile.getName(), configFile.length());
+        if (tracked) Diagnostics.recordFile("config.save", System.nanoTime() - start);
     }
 
     /**
@@ -187,6 +266,31 @@ public class ConfigManager {
      */
     public void set(String path, Object value) throws IOException {
         config.set(path, value);
-        config.save();
+        save();
+    }
+
+    /**
+     * Zwraca płaski snapshot aktualnej konfiguracji.
+     *
+     * @return Niemodyfikowalna mapa ścieżka → wartość
+     */
+    @Override
+    public Map<String, Object> snapshot() {
+        return YamlSnapshots.flatten(config);
+    }
+
+    /**
+     * Atomowo podmienia konfigurację na dokument zbudowany ze snapshotu.
+     * <p>
+     * Plik na dysku nie jest czytany. Kolejne {@link #save()} zapisze snapshot do pliku,
+     * a {@link #reload()} ponownie wczyta plik z dysku.
+     * </p>
+     *
+     * @param values Mapa ścieżka → wartość
+     * @throws IOException Jeśli nie udało się zbudować dokumentu
+     */
+    @Override
+    public void applySnapshot(Map<String, Object> values) throws IOException {
+        this.config = YamlSnapshots.build(values);
     }
 }
\ No newline at end of file
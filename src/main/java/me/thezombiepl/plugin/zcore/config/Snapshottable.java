@@ -0,0 +1,29 @@
+package me.thezombiepl.plugin.zcore.config;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Dokument YAML, którego zawartość można pobrać i podmienić jako płaski snapshot.
+ * <p>
+ * Snapshot to mapa ścieżka (notacja kropkowa) → wartość liścia. Podmiana jest atomowa:
+ * czytelnicy widzą albo stary, albo nowy dokument, nigdy stan pośredni.
+ * </p>
+ */
+public interface Snapshottable {
+
+    /**
+     * Zwraca niemodyfikowalny, płaski snapshot aktualnej zawartości dokumentu.
+     *
+     * @return Mapa ścieżka → wartość
+     */
+    Map<String, Object> snapshot();
+
+    /**
+     * Atomowo zastępuje zawartość dokumentu podanym snapshotem (bez odczytu pliku).
+     *
+     * @param values Mapa ścieżka → wartość
+     * @throws IOException Jeśli nie udało się zbudować dokumentu
+     */
+    void applySnapshot(Map<String, Object> values) throws IOException;
+}
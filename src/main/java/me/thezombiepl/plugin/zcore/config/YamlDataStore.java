@@ -0,0 +1,301 @@
+package me.thezombiepl.plugin.zcore.config;
+
+import dev.dejvokep.boostedyaml.YamlDocument;
+import me.thezombiepl.plugin.zcore.utils.CacheStats;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Magazyn danych per encja (np. per gracz) - jeden plik YAML na klucz, zarządzany przez {@link ConfigManager}.
+ * <p>
+ * Dokumenty są ładowane leniwie na osobnym wątku I/O i trzymane w ograniczonym cache LRU.
+ * Zmodyfikowane wpisy są zapisywane w paczkach w tle co {@code flushInterval}; wpis wyrzucony
+ * z cache przed zapisem pozostaje w kolejce zapisu i jest z niej zwracany przy kolejnym odczycie.
+ * Wszystkie operacje na plikach wykonuje jeden wątek, więc zapis i ponowne ładowanie tego samego
+ * klucza nigdy się nie wyprzedzają. Odczyt nieistniejącego klucza nie tworzy pliku - powstaje on
+ * dopiero przy pierwszym zapisie.
+ * </p>
+ * <p>
+ * Przykład użycia:
+ * <pre>{@code
+ * YamlDataStore<UUID> store = new YamlDataStore<>(new File(getDataFolder(), "players"), 500, 30, TimeUnit.SECONDS);
+ *
+ * // PlayerJoinEvent
+ * store.preload(player.getUniqueId());
+ *
+ * // Modyfikacja (zapis nastąpi w tle)
+ * store.edit(player.getUniqueId(), doc -> doc.set("kills", doc.getInt("kills", 0) + 1));
+ *
+ * // PlayerQuitEvent / onDisable
+ * store.unload(player.getUniqueId());
+ * store.close();
+ * }</pre>
+ * </p>
+ *
+ * @param <K> Typ klucza (np. UUID)
+ */
+public class YamlDataStore<K> {
+
+    private final File folder;
+    private final int maxCached;
+    private final Function<K, String> fileNames;
+    private final ScheduledExecutorService io;
+
+    // LRU w kolejności dostępu, chroniony przez synchronized(cache)
+    private final LinkedHashMap<K, ConfigManager> cache;
+    private final Map<K, ConfigManager> dirty = new ConcurrentHashMap<>();
+    // Wyrzucone z LRU bez zmian - dopóki ktoś trzyma menedżera (np. edycja w toku), odczyt zwraca ten sam obiekt
+    private final Map<K, WeakReference<ConfigManager>> evicted = new ConcurrentHashMap<>();
+    private final Map<K, CompletableFuture<ConfigManager>> loading = new ConcurrentHashMap<>();
+    private final CacheStats cacheStats = new CacheStats();
+    private volatile boolean closed;
+
+    /**
+     * Tworzy magazyn, w którym nazwa pliku to {@code key.toString() + ".yml"}.
+     *
+     * @param folder Folder z plikami danych (tworzony w razie potrzeby)
+     * @param maxCached Maksymalna liczba dokumentów trzymanych w pamięci
+     * @param flushInterval Odstęp między paczkowymi zapisami zmodyfikowanych wpisów
+     */
+    public YamlDataStore(File folder, int maxCached, long flushInterval, TimeUnit unit) {
+        this(folder, maxCached, flushInterval, unit, key -> key.toString() + ".yml");
+    }
+
+    /**
+     * @param fileNames Funkcja klucz → nazwa pliku w folderze
+     */
+    public YamlDataStore(File folder, int maxCached, long flushInterval, TimeUnit unit, Function<K, String> fileNames) {
+        if (maxCached < 1) throw new IllegalArgumentException("maxCached must be >= 1");
+        this.folder = folder;
+        this.maxCached = maxCached;
+        this.fileNames = fileNames;
+        this.cache = new LinkedHashMap<K, ConfigManager>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, ConfigManager> eldest) {
+                if (size() <= YamlDataStore.this.maxCached) return false;
+                evicted.put(eldest.getKey(), new WeakReference<>(eldest.getValue()));
+                return true;
+            }
+        };
+        this.io = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ZCore-DataStore-" + folder.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        io.scheduleWithFixedDelay(this::writeDirty, flushInterval, flushInterval, unit);
+    }
+
+    /**
+     * Zwraca dokument dla klucza. Trafienie w cache kończy się natychmiast,
+     * w przeciwnym razie plik jest ładowany na wątku I/O.
+     *
+     * @param key Klucz encji
+     * @return Future z ConfigManagerem danego klucza
+     */
+    public CompletableFuture<ConfigManager> get(K key) {
+        ConfigManager cached = getIfLoaded(key);
+        if (cached != null) {
+            cacheStats.hit();
+            return CompletableFuture.completedFuture(cached);
+        }
+        cacheStats.miss();
+        if (closed) throw new IllegalStateException("YamlDataStore is closed");
+
+        CompletableFuture<ConfigManager> future = loading.get(key);
+        if (future != null) return future;
+
+        CompletableFuture<ConfigManager> created = new CompletableFuture<>();
+        future = loading.putIfAbsent(key, created);
+        if (future != null) return future;
+
+        io.execute(() -> {
+            try {
+                created.complete(load(key));
+            } catch (Throwable t) {
+                created.completeExceptionally(t);
+            } finally {
+                loading.remove(key, created);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Zwraca dokument tylko jeśli jest już w pamięci - nigdy nie blokuje.
+     *
+     * @return ConfigManager lub null
+     */
+    public ConfigManager getIfLoaded(K key) {
+        // Całość pod blokadą cache - wyrzucenie z LRU i powrót z kolejki zapisu/evicted są atomowe
+        synchronized (cache) {
+            ConfigManager cached = cache.get(key);
+            if (cached != null) return cached;
+
+            // Wyrzucony z LRU, ale jeszcze nie zapisany albo nadal używany - wraca do cache
+            ConfigManager pending = dirty.get(key);
+            WeakReference<ConfigManager> ref = evicted.remove(key);
+            if (pending == null && ref != null) pending = ref.get();
+            if (pending != null) cache.put(key, pending);
+            return pending;
+        }
+    }
+
+    /**
+     * Ładuje dokument z wyprzedzeniem (np. przy wejściu gracza).
+     */
+    public CompletableFuture<ConfigManager> preload(K key) {
+        return get(key);
+    }
+
+    /**
+     * Modyfikuje dokument i oznacza go do zapisu.
+     * <p>
+     * Edytor działa pod blokadą dokumentu, więc nie koliduje z zapisem w tle.
+     * Jeśli dokument jest w pamięci, edytor wykonuje się od razu na bieżącym wątku.
+     * </p>
+     */
+    public CompletableFuture<Void> edit(K key, Consumer<YamlDocument> editor) {
+        return get(key).thenAccept(manager -> {
+            synchronized (manager) {
+                editor.accept(manager.getConfig());
+            }
+            dirty.put(key, manager);
+        });
+    }
+
+    /**
+     * Oznacza dokument jako zmodyfikowany (po zmianach wprowadzonych bezpośrednio przez {@link ConfigManager#getConfig()}).
+     */
+    public void markDirty(K key) {
+        ConfigManager manager = getIfLoaded(key);
+        if (manager != null) dirty.put(key, manager);
+    }
+
+    /**
+     * Zapisuje dokument klucza, jeśli był modyfikowany (np. przy wyjściu gracza).
+     */
+    public CompletableFuture<Void> flush(K key) {
+        return CompletableFuture.runAsync(() -> write(key), io);
+    }
+
+    /**
+     * Zapisuje dokument i usuwa go z pamięci.
+     */
+    public CompletableFuture<Void> unload(K key) {
+        return CompletableFuture.runAsync(() -> {
+            write(key);
+            synchronized (cache) {
+                ConfigManager removed = cache.remove(key);
+                if (removed != null) evicted.put(key, new WeakReference<>(removed));
+            }
+        }, io);
+    }
+
+    /**
+     * Zapisuje wszystkie zmodyfikowane dokumenty.
+     */
+    public CompletableFuture<Void> flushAll() {
+        return CompletableFuture.runAsync(this::writeDirty, io);
+    }
+
+    /**
+     * Zapisuje zmiany i zatrzymuje wątek I/O (np. w onDisable). Blokuje do zakończenia zapisu.
+     */
+    public void close() {
+        if (closed) return;
+        closed = true;
+        try {
+            flushAll().join();
+        } catch (CompletionException e) {
+            System.err.println("[ZCore] Final flush of " + folder.getName() + " failed: " + e.getCause());
+        }
+        if (!dirty.isEmpty()) {
+            System.err.println("[ZCore] " + dirty.size() + " data files in " + folder.getName()
+                    + " were not saved on close: " + dirty.keySet());
+        }
+        io.shutdown();
+        try {
+            io.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return Statystyki trafień cache (odczyty get/preload/edit)
+     */
+    public CacheStats getCacheStats() {
+        return cacheStats;
+    }
+
+    /**
+     * @return Liczba zmodyfikowanych dokumentów oczekujących na zapis
+     */
+    public int getPendingWrites() {
+        return dirty.size();
+    }
+
+    /**
+     * @return Liczba dokumentów w cache LRU
+     */
+    public int getCachedEntries() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private ConfigManager load(K key) throws IOException {
+        // Wpis mógł trafić do cache lub kolejki zapisu, zanim zadanie ruszyło
+        ConfigManager existing = getIfLoaded(key);
+        if (existing != null) return existing;
+
+        // Bez tworzenia pliku i bez rejestracji w Diagnostics - plik powstaje przy zapisie
+        ConfigManager manager = new ConfigManager(new File(folder, fileNames.apply(key)));
+        synchronized (cache) {
+            // Inny wątek mógł w międzyczasie przywrócić wpis (evicted/dirty) - wygrywa istniejący
+            ConfigManager restored = cache.get(key);
+            if (restored != null) return restored;
+            cache.put(key, manager);
+        }
+        return manager;
+    }
+
+    private void writeDirty() {
+        List<K> keys = new ArrayList<>(dirty.keySet());
+        for (K key : keys) {
+            write(key);
+        }
+        evicted.values().removeIf(ref -> ref.get() == null);
+    }
+
+    private void write(K key) {
+        ConfigManager manager = dirty.remove(key);
+        if (manager == null) return;
+        try {
+            if (!folder.exists() && !folder.mkdirs()) {
+                throw new IOException("Cannot create folder " + folder.getAbsolutePath());
+            }
+            synchronized (manager) {
+                manager.save();
+            }
+        } catch (IOException | RuntimeException e) {
+            // Zostawiamy wpis w kolejce - spróbujemy ponownie przy następnym zapisie
+            dirty.putIfAbsent(key, manager);
+            System.err.println("[ZCore] Failed to save data file for " + key + ": " + e.getMessage());
+        }
+    }
+}
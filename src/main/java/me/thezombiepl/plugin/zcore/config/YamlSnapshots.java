@@ -0,0 +1,50 @@
+package me.thezombiepl.plugin.zcore.config;
+
+import dev.dejvokep.boostedyaml.YamlDocument;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Konwersja pomiędzy {@link YamlDocument} a płaskim snapshotem ścieżka → wartość.
+ */
+public final class YamlSnapshots {
+
+    private YamlSnapshots() {}
+
+    /**
+     * Spłaszcza dokument do mapy ścieżek liści (sekcje są pomijane).
+     *
+     * @param document Dokument źródłowy
+     * @return Niemodyfikowalna mapa ścieżka → wartość
+     */
+    public static Map<String, Object> flatten(YamlDocument document) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String route : document.getRoutesAsStrings(true)) {
+            if (document.isSection(route)) continue;
+            values.put(route, document.get(route));
+        }
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Buduje nowy dokument w pamięci (bez pliku) z płaskiego snapshotu.
+     *
+     * @param values Mapa ścieżka → wartość
+     * @return Nowy dokument
+     * @throws IOException Jeśli BoostedYAML nie utworzy pustego dokumentu
+     */
+    public static YamlDocument build(Map<String, Object> values) throws IOException {
+        YamlDocument document = YamlDocument.create(
+                new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))
+        );
+        for (Map.Entry<String, Object> e : values.entrySet()) {
+            document.set(e.getKey(), e.getValue());
+        }
+        return document;
+    }
+}
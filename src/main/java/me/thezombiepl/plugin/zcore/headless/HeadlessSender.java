@@ -0,0 +1,26 @@
+package me.thezombiepl.plugin.zcore.headless;
+
+import net.kyori.adventure.text.Component;
+
+/**
+ * Command sender on the headless platform ({@link me.thezombiepl.plugin.zcore.command.CommandContext.Platform#HEADLESS}).
+ * <p>
+ * Only this contract ships in the plugin jar; the platform itself ({@code HeadlessPlatform},
+ * {@code LoadHarness}, ...) lives in the {@code headless} source set and its own artifact.
+ * </p>
+ */
+public interface HeadlessSender {
+
+    String getName();
+
+    boolean hasPermission(String permission);
+
+    void sendMessage(Component message);
+
+    /**
+     * Whether the sender is a simulated player (false for the console)
+     */
+    default boolean isPlayer() {
+        return false;
+    }
+}
@@ -0,0 +1,183 @@
+package me.thezombiepl.plugin.zcore.messages;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Locale-aware formatting of typed placeholders ({@code {amount:number}}, {@code {time:duration}},
+ * {@code {date:short}}).
+ * <p>
+ * Number formats are not thread-safe, so each thread keeps its own per-locale instances;
+ * date formatters are immutable and shared. Nothing is created per message.
+ * </p>
+ *
+ * <table>
+ *     <tr><td>number</td><td>1,234.5 (grouping, up to 2 decimals)</td></tr>
+ *     <tr><td>integer</td><td>1,235</td></tr>
+ *     <tr><td>decimal</td><td>1,234.50 (always 2 decimals)</td></tr>
+ *     <tr><td>percent</td><td>50% (0.5)</td></tr>
+ *     <tr><td>duration</td><td>1d 2h 3m 4s (value in milliseconds or {@link Duration})</td></tr>
+ *     <tr><td>short / medium / long</td><td>date (epoch millis, {@link Instant}, {@link Date})</td></tr>
+ *     <tr><td>time</td><td>short time of day</td></tr>
+ *     <tr><td>datetime</td><td>short date and time</td></tr>
+ * </table>
+ */
+public final class MessageFormats {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static final ThreadLocal<Map<String, NumberFormat>> numberFormats = ThreadLocal.withInitial(HashMap::new);
+    private static final Map<String, DateTimeFormatter> dateFormats = new ConcurrentHashMap<>();
+
+    private MessageFormats() {}
+
+    /**
+     * Formats a value; unknown formats print the plain value
+     *
+     * @param format Format name, or null for the plain value
+     */
+    public static String format(long value, String format, Locale locale) {
+        if (format == null) return Long.toString(value);
+        switch (format) {
+            case "number":
+            case "integer":
+            case "decimal":
+            case "percent":
+                return numberFormat(format, locale).format(value);
+            case "duration":
+                return formatDuration(value);
+            default:
+                DateTimeFormatter date = dateFormat(format, locale);
+                return date != null ? date.format(Instant.ofEpochMilli(value)) : Long.toString(value);
+        }
+    }
+
+    public static String format(double value, String format, Locale locale) {
+        if (format == null) return Double.toString(value);
+        switch (format) {
+            case "number":
+            case "integer":
+            case "decimal":
+            case "percent":
+                return numberFormat(format, locale).format(value);
+            case "duration":
+                return formatDuration((long) value);
+            default:
+                return Double.toString(value);
+        }
+    }
+
+    public static String format(Object value, String format, Locale locale) {
+        if (value == null) return null;
+        if (format == null) return value.toString();
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return format(((Number) value).longValue(), format, locale);
+        }
+        if (value instanceof Number) {
+            return format(((Number) value).doubleValue(), format, locale);
+        }
+        if (value instanceof Duration) {
+            return "duration".equals(format) ? formatDuration(((Duration) value).toMillis()) : value.toString();
+        }
+        if (value instanceof Date) {
+            return format(((Date) value).getTime(), format, locale);
+        }
+        if (value instanceof TemporalAccessor) {
+            DateTimeFormatter date = dateFormat(format, locale);
+            return date != null ? date.format((TemporalAccessor) value) : value.toString();
+        }
+        return value.toString();
+    }
+
+    /**
+     * Compact duration: "1d 2h 3m 4s" (zero units omitted, "0s" for under a second)
+     */
+    public static String formatDuration(long millis) {
+        StringBuilder out = new StringBuilder(16);
+        if (millis < 0) {
+            out.append('-');
+            millis = -millis;
+        }
+        long seconds = millis / 1000L;
+        long days = seconds / 86400L;
+        long hours = (seconds / 3600L) % 24L;
+        long minutes = (seconds / 60L) % 60L;
+        long secs = seconds % 60L;
+        int start = out.length();
+        if (days > 0) out.append(days).append("d ");
+        if (hours > 0) out.append(hours).append("h ");
+        if (minutes > 0) out.append(minutes).append("m ");
+        if (secs > 0 || out.length() == start) out.append(secs).append("s ");
+        out.setLength(out.length() - 1);
+        return out.toString();
+    }
+
+    private static NumberFormat numberFormat(String format, Locale locale) {
+        Map<String, NumberFormat> formats = numberFormats.get();
+        String key = format + '|' + locale.toLanguageTag();
+        NumberFormat cached = formats.get(key);
+        if (cached != null) return cached;
+
+        NumberFormat created;
+        switch (format) {
+            case "integer":
+                created = NumberFormat.getIntegerInstance(locale);
+                break;
+            case "decimal":
+                created = new DecimalFormat("#,##0.00", DecimalFormatSymbols.getInstance(locale));
+                break;
+            case "percent":
+                created = NumberFormat.getPercentInstance(locale);
+                break;
+            default:
+                created = NumberFormat.getNumberInstance(locale);
+                created.setMaximumFractionDigits(2);
+                break;
+        }
+        formats.put(key, created);
+        return created;
+    }
+
+    private static DateTimeFormatter dateFormat(String format, Locale locale) {
+        String key = format + '|' + locale.toLanguageTag();
+        DateTimeFormatter cached = dateFormats.get(key);
+        if (cached != null) return cached;
+
+        DateTimeFormatter created;
+        switch (format) {
+            case "short":
+            case "date":
+                created = DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT);
+                break;
+            case "medium":
+                created = DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM);
+                break;
+            case "long":
+                created = DateTimeFormatter.ofLocalizedDate(FormatStyle.LONG);
+                break;
+            case "time":
+                created = DateTimeFormatter.ofLocalizedTime(FormatStyle.SHORT);
+                break;
+            case "datetime":
+                created = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.SHORT);
+                break;
+            default:
+                return null;
+        }
+        created = created.withLocale(locale).withZone(ZONE);
+        dateFormats.put(key, created);
+        return created;
+    }
+}
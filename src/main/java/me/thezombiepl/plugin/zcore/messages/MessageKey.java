@@ -0,0 +1,42 @@
+package me.thezombiepl.plugin.zcore.messages;
+
+/**
+ * Message path bound to a fixed integer slot.
+ * <p>
+ * Instances are normally generated at build time by {@code gradle/message-keys.gradle}
+ * from the bundled {@code messages/*.yml} files. After {@link MessageManager#registerKeys(MessageKey...)}
+ * a lookup by key is a single array read instead of a YAML route lookup.
+ * </p>
+ *
+ * <pre>{@code
+ * messageManager.registerKeys(MessageKeys.ALL);
+ * String msg = messageManager.getMessage(MessageKeys.MESSAGES_NO_PERMISSION, "&cNo permission!");
+ * }</pre>
+ */
+public final class MessageKey {
+
+    private final int slot;
+    private final String path;
+
+    public MessageKey(int slot, String path) {
+        if (slot < 0) throw new IllegalArgumentException("slot must be >= 0");
+        this.slot = slot;
+        this.path = path;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Dotted path in the language file (e.g. "messages.no-permission")
+     */
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
@@ -7,24 +7,52 @@ import dev.dejvokep.boostedyaml.settings.general.GeneralSettings;
 import dev.dejvokep.boostedyaml.settings.loader.LoaderSettings;
 import dev.dejvokep.boostedyaml.settings.updater.UpdaterSettings;
 import me.thezombiepl.plugin.zcore.config.ConfigManager;
+import me.thezombiepl.plugin.zcore.config.Snapshottable;
+import me.thezombiepl.plugin.zcore.config.YamlSnapshots;
+import me.thezombiepl.plugin.zcore.profiling.Diagnostics;
+import me.thezombiepl.plugin.zcore.profiling.Profiler;
+import me.thezombiepl.plugin.zcore.utils.CacheStats;
+import me.thezombiepl.plugin.zcore.utils.ColorUtil;
+import net.kyori.adventure.text.Component;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
-public class MessageManager {
+public class MessageManager implements Snapshottable {
 
     private final JavaPlugin plugin;
-    private YamlDocument messages;
-    private String currentLanguage;
+    private volatile YamlDocument messages;
+    private File messageFile;
+    private volatile String currentLanguage;
+    private volatile Locale locale;
     private final String defaultLang;
     private final File dataFolder;
     private final InputStreamProvider streamProvider; // Nowy interfejs
+    // Wyrenderowane bloki statycznych list (czyszczone przy każdym przeładowaniu)
+    // Węzeł dokumentu + wpis mapy (szacunkowo)
+    private static final long ENTRY_OVERHEAD = 64L;
+
+    private final Map<BlockKey, Block> blockCache = new ConcurrentHashMap<>();
+    private final CacheStats blockCacheStats = new CacheStats();
+    // Zwiększane przy każdym załadowaniu/podmianie dokumentu - pozwala cache'om wykryć przeładowanie
+    private final AtomicLong generation = new AtomicLong();
+    // Skompilowane szablony wiadomości z placeholderami (czyszczone przy każdym przeładowaniu)
+    private final Map<String, MessageTemplate> templateCache = new ConcurrentHashMap<>();
+    private volatile PlaceholderRegistry placeholderRegistry = PlaceholderRegistry.shared();
+    // Zarejestrowane klucze i wartości języka w płaskiej tablicy indeksowanej slotem klucza
+    private volatile MessageKey[] keys = new MessageKey[0];
+    private volatile String[] slots = new String[0];
 
     // Interfejs do pobierania InputStream (żeby nie zależeć od konkretnej implementacji)
     @FunctionalInterface
@@ -39,7 +67,8 @@ public class MessageManager {
         this.defaultLang = defaultLang;
         this.currentLanguage = configManager.getConfig().getString("settings.language", defaultLang);
         this.streamProvider = fileName -> plugin.getResource("messages/" + fileName);
-        loadMessages();
+        loadMessages("load");
+        Diagnostics.track(Diagnostics.ownerOf(plugin), this);
     }
 
     // Konstruktor dla Velocity z własnym providerem
@@ -49,17 +78,22 @@ public class MessageManager {
         this.defaultLang = defaultLang;
         this.currentLanguage = configManager.getConfig().getString("settings.language", defaultLang);
         this.streamProvider = streamProvider;
-        loadMessages();
+        loadMessages("load");
+        Diagnostics.track(dataFolder.getName(), this);
     }
 
-    private void loadMessages() throws IOException {
+    private void loadMessages(String operation) throws IOException {
+		Profiler.FileSpan span = Profiler.fileOperation();
+		long start = System.nanoTime();
 		File messageDir = new File(dataFolder, "messages");
 		if (!messageDir.exists() && !messageDir.mkdirs()) {
 			throw new IOException("Cannot create messages folder: " + messageDir.getAbsolutePath());
 		}
 
 		String fileName = "messages_" + currentLanguage + ".yml";
+		this.locale = Locale.forLanguageTag(currentLanguage.replace('_', '-'));
 		File messageFile = new File(messageDir, fileName);
+		this.messageFile = messageFile;
 
 		// Pobierz stream z providera (może być z pluginu lub z zewnątrz)
 		InputStream defaultsForCopy = streamProvider.getStream(fileName);
@@ -111,6 +145,15 @@ public class MessageManager {
 			);
 		}
 
+		blockCache.clear();
+		templateCache.clear();
+		rebuildSlots(fileName);
+		generation.incrementAndGet();
+		span.end(operation, fileName, messageFile.length());
+		Diagnostics.recordFile("messages." + operation, System.nanoTime() - start);
+
+		// Przeładowanie loguje reload() - jeden wpis na operację
+		if (!"load".equals(operation)) return;
 		if (plugin != null) {
 			plugin.getLogger().info("Loaded language file: " + fileName);
 		} else {
@@ -119,46 +162,301 @@ public class MessageManager {
 	}
 
     public String getMessage(String key, String defaultMsg) {
-        return messages.getString(key, defaultMsg);
+        Profiler.LookupSpan span = Profiler.messageLookup();
+        String msg = messages.getString(key, defaultMsg);
+        span.end(key, currentLanguage, 0);
+        return msg;
     }
 
+    /**
+     * Returns a message with {@code {key}} replaced literally for every map entry
+     * (any key is allowed, typed formats are not parsed; registered providers are not consulted)
+     */
     public String getMessage(String key, String defaultMsg, Map<String, String> placeholders) {
-        String msg = getMessage(key, defaultMsg);
+        Profiler.LookupSpan span = Profiler.messageLookup();
+        String msg = replacePlaceholders(messages.getString(key, defaultMsg), placeholders);
+        span.end(key, currentLanguage, placeholders.size());
+        return msg;
+    }
+
+    /**
+     * Returns a message with placeholders resolved from the {@link PlaceholderRegistry}.
+     * Only placeholders present in the message are resolved; values are cached per player.
+     *
+     * @param player Bukkit/Velocity player (or any object with getUniqueId()), may be null
+     */
+    public String getPlayerMessage(String key, String defaultMsg, Object player) {
+        return render(key, defaultMsg, player, null, null, placeholderRegistry);
+    }
+
+    /**
+     * Same as {@link #getPlayerMessage(String, String, Object)}, but explicit placeholders take precedence
+     * over registered providers.
+     */
+    public String getPlayerMessage(String key, String defaultMsg, Object player, Map<String, String> placeholders) {
+        return render(key, defaultMsg, player, placeholders, null, placeholderRegistry);
+    }
+
+    /**
+     * Returns a message with typed placeholders ({@code {amount:number}}, {@code {time:duration}},
+     * {@code {date:short}}) formatted for the current language. Raw values are passed without
+     * converting them to strings first; see {@link MessageFormats} for the available formats.
+     */
+    public String format(String key, String defaultMsg, PlaceholderValues values) {
+        return render(key, defaultMsg, null, null, values, placeholderRegistry);
+    }
+
+    /**
+     * Typed placeholders plus registry placeholders for the player
+     */
+    public String format(String key, String defaultMsg, Object player, PlaceholderValues values) {
+        return render(key, defaultMsg, player, null, values, placeholderRegistry);
+    }
+
+    /**
+     * Locale of the current language, used by typed placeholder formats
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    private String render(String key, String defaultMsg, Object player, Map<String, String> placeholders,
+                          PlaceholderValues values, PlaceholderRegistry registry) {
+        Profiler.LookupSpan span = Profiler.messageLookup();
+        MessageTemplate template = template(messages.getString(key, null), defaultMsg);
+        if (template == null) {
+            span.end(key, currentLanguage, 0);
+            return null;
+        }
+        String result = template.render(values, locale, name -> {
+            if (placeholders != null) {
+                String value = placeholders.get(name);
+                if (value != null) return value;
+            }
+            return registry != null ? registry.resolve(name, player) : null;
+        });
+        span.end(key, currentLanguage, template.getPlaceholders().size());
+        return result;
+    }
+
+    /**
+     * Registers generated message keys. Key {@code i} must use slot {@code i} (as generated).
+     * The loaded language is copied into a flat array now and after every reload; keys missing
+     * from the language file are reported once per load.
+     */
+    public void registerKeys(MessageKey... keys) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].getSlot() != i) {
+                throw new IllegalArgumentException("Key " + keys[i] + " has slot " + keys[i].getSlot() + ", expected " + i);
+            }
+        }
+        this.keys = keys.clone();
+        rebuildSlots(messageFile.getName());
+    }
+
+    /**
+     * Constant-time lookup of a registered key
+     */
+    public String getMessage(MessageKey key, String defaultMsg) {
+        Profiler.LookupSpan span = Profiler.messageLookup();
+        String msg = slotValue(key);
+        span.end(key.getPath(), currentLanguage, 0);
+        return msg != null ? msg : defaultMsg;
+    }
+
+    /**
+     * Same literal replacement as {@link #getMessage(String, String, Map)}
+     */
+    public String getMessage(MessageKey key, String defaultMsg, Map<String, String> placeholders) {
+        Profiler.LookupSpan span = Profiler.messageLookup();
+        String value = slotValue(key);
+        String result = replacePlaceholders(value != null ? value : defaultMsg, placeholders);
+        span.end(key.getPath(), currentLanguage, placeholders.size());
+        return result;
+    }
+
+    // Dosłowna zamiana {klucz} -> wartość dla przeciążeń z mapą (jak w getMessageList)
+    private static String replacePlaceholders(String msg, Map<String, String> placeholders) {
+        if (msg == null) return null;
         for (Map.Entry<String, String> e : placeholders.entrySet())
             msg = msg.replace("{" + e.getKey() + "}", e.getValue());
         return msg;
     }
 
+    // Wartość z pliku językowego (null = brak klucza); klucze spoza registerKeys czytane z dokumentu
+    private String slotValue(MessageKey key) {
+        String[] current = slots;
+        int slot = key.getSlot();
+        return slot < current.length ? current[slot] : messages.getString(key.getPath(), null);
+    }
+
+    // Szablon wiadomości z pliku (z cache) lub domyślnej (bez cache); null gdy brak obu
+    private MessageTemplate template(String fileMsg, String defaultMsg) {
+        if (fileMsg != null) {
+            // Cache tylko dla tekstów z pliku językowego - ich liczba jest ograniczona
+            return templateCache.computeIfAbsent(fileMsg, MessageTemplate::compile);
+        }
+        // Domyślne wiadomości bywają budowane dynamicznie - kompilujemy bez zapamiętywania
+        return defaultMsg != null ? MessageTemplate.compile(defaultMsg) : null;
+    }
+
+    private void rebuildSlots(String source) {
+        MessageKey[] registered = keys;
+        YamlDocument current = messages;
+        String[] values = new String[registered.length];
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < registered.length; i++) {
+            String path = registered[i].getPath();
+            if (current.contains(path) && !current.isSection(path) && !current.isList(path)) {
+                values[i] = current.getString(path);
+            } else {
+                missing.add(path);
+            }
+        }
+        this.slots = values;
+
+        if (!missing.isEmpty()) {
+            String warning = "Missing " + missing.size() + " message key(s) in " + source + ": " + String.join(", ", missing);
+            if (plugin != null) {
+                plugin.getLogger().warning(warning);
+            } else {
+                System.err.println("[ZCore] " + warning);
+            }
+        }
+    }
+
     public List<String> getMessageList(String key, List<String> defaultList) {
-        return messages.contains(key) ? messages.getStringList(key) : defaultList;
+        Profiler.LookupSpan span = Profiler.messageLookup();
+        YamlDocument current = messages;
+        List<String> list = current.contains(key) ? current.getStringList(key) : defaultList;
+        span.end(key, currentLanguage, 0);
+        return list;
     }
 
     public List<String> getMessageList(String key, List<String> defaultList, Map<String, String> placeholders) {
-        return getMessageList(key, defaultList).stream()
-                .map(line -> {
-                    for (Map.Entry<String, String> e : placeholders.entrySet())
-                        line = line.replace("{" + e.getKey() + "}", e.getValue());
-                    return line;
-                }).collect(Collectors.toList());
+        Profiler.LookupSpan span = Profiler.messageLookup();
+        YamlDocument current = messages;
+        List<String> list = (current.contains(key) ? current.getStringList(key) : defaultList).stream()
+                .map(line -> replacePlaceholders(line, placeholders))
+                .collect(Collectors.toList());
+        span.end(key, currentLanguage, placeholders.size());
+        return list;
+    }
+
+    /**
+     * Returns a static message list rendered into a single newline-joined Component.
+     * The result is cached per key and default list until the next reload, so repeated
+     * help/info screens cost a map lookup instead of colorizing every line.
+     */
+    public Component getMessageBlock(String key, List<String> defaultList) {
+        long gen = generation.get();
+        BlockKey blockKey = new BlockKey(key, defaultList);
+        Block cached = blockCache.get(blockKey);
+        if (cached != null && cached.generation == gen) {
+            blockCacheStats.hit();
+            return cached.component;
+        }
+        blockCacheStats.miss();
+        Component rendered = ColorUtil.colorizeLines(getMessageList(key, defaultList));
+        // Wpis oznaczony generacją - blok wyrenderowany ze starego dokumentu nie przetrwa przeładowania,
+        // nawet jeśli zapis wyprzedzi blockCache.clear()
+        if (generation.get() == gen) {
+            List<String> defaults = defaultList != null ? new ArrayList<>(defaultList) : null;
+            blockCache.put(new BlockKey(key, defaults), new Block(gen, rendered));
+        }
+        return rendered;
+    }
+
+    /**
+     * Currently loaded language code (e.g. "en")
+     */
+    public String getCurrentLanguage() {
+        return currentLanguage;
+    }
+
+    /**
+     * Counter bumped every time the language document is loaded, reloaded or replaced by a snapshot.
+     * Caches of rendered messages compare it to detect a reload.
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    public PlaceholderRegistry getPlaceholderRegistry() {
+        return placeholderRegistry;
+    }
+
+    /**
+     * Replaces the registry used by player-aware lookups (defaults to {@link PlaceholderRegistry#shared()})
+     */
+    public void setPlaceholderRegistry(PlaceholderRegistry placeholderRegistry) {
+        this.placeholderRegistry = placeholderRegistry;
+    }
+
+    public CacheStats getBlockCacheStats() {
+        return blockCacheStats;
+    }
+
+    /**
+     * Number of compiled message templates currently cached
+     */
+    public int getTemplateCacheSize() {
+        return templateCache.size();
+    }
+
+    /**
+     * Rough heap estimate of the loaded language: keys and values as UTF-16 strings plus
+     * per-entry overhead. Walks the whole document - meant for diagnostics, not hot paths.
+     */
+    public long estimateMemoryBytes() {
+        long bytes = 0L;
+        for (Map.Entry<String, Object> entry : YamlSnapshots.flatten(messages).entrySet()) {
+            bytes += ENTRY_OVERHEAD + stringBytes(entry.getKey());
+            Object value = entry.getValue();
+            if (value instanceof List) {
+                for (Object line : (List<?>) value) {
+                    bytes += stringBytes(String.valueOf(line));
+                }
+            } else if (value != null) {
+                bytes += stringBytes(value.toString());
+            }
+        }
+        return bytes;
+    }
+
+    // Nagłówek String + tablica znaków (UTF-16, bez założeń o compact strings)
+    private static long stringBytes(String value) {
+        return 40L + 2L * value.length();
     }
 
     public void save() throws IOException {
-        messages.save();
+        Profiler.FileSpan span = Profiler.fileOperation();
+        long start = System.nanoTime();
+        YamlDocument current = messages;
+        if (current.getFile() == null) {
+            current.save(messageFile);
+        } else {
+            current.save();
+        }
+        span.end("save", messageFile.getName(), messageFile.length());
+        Diagnostics.recordFile("messages.save", System.nanoTime() - start);
     }
 
-    public void reload(ConfigManager configManager) throws IOException {
+    public synchronized void reload(ConfigManager configManager) throws IOException {
         String langFromConfig = configManager.getConfig().getString("settings.language", defaultLang);
         if (!langFromConfig.equals(currentLanguage)) {
+            save();
             currentLanguage = langFromConfig;
-            messages.save();
-            loadMessages();
+            loadMessages("reload");
             if (plugin != null) {
                 plugin.getLogger().info("Reloaded language file after changing language to: " + currentLanguage);
             } else {
                 System.out.println("[ZCore] Reloaded language file after changing language to: " + currentLanguage);
             }
         } else {
-            messages.reload();
+            // Budujemy nowy dokument i podmieniamy go atomowo - równoległe odczyty
+            // nigdy nie widzą częściowo przeładowanego pliku (zamiast messages.reload() w miejscu)
+            loadMessages("reload");
             if (plugin != null) {
                 plugin.getLogger().info("Reloaded language file without changing language");
             } else {
@@ -166,4 +464,57 @@ public class MessageManager {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<String, Object> snapshot() {
+        return YamlSnapshots.flatten(messages);
+    }
+
+    /**
+     * Atomically replaces the loaded language with a document built from the snapshot.
+     * The language file on disk is not read; {@link #save()} writes the snapshot to it.
+     */
+    @Override
+    public void applySnapshot(Map<String, Object> values) throws IOException {
+        this.messages = YamlSnapshots.build(values);
+        blockCache.clear();
+        templateCache.clear();
+        rebuildSlots("snapshot");
+        generation.incrementAndGet();
+    }
+
+    private static final class BlockKey {
+        final String key;
+        final List<String> defaultList;
+        final int hash;
+
+        BlockKey(String key, List<String> defaultList) {
+            this.key = key;
+            this.defaultList = defaultList;
+            this.hash = key.hashCode() * 31 + Objects.hashCode(defaultList);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BlockKey)) return false;
+            BlockKey other = (BlockKey) o;
+            return key.equals(other.key) && Objects.equals(defaultList, other.defaultList);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Block {
+        final long generation;
+        final Component component;
+
+        Block(long generation, Component component) {
+            this.generation = generation;
+            this.component = component;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package me.thezombiepl.plugin.zcore.messages;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Message compiled once into literal and {@code {placeholder}} segments.
+ * <p>
+ * Rendering walks the segments and asks a resolver only for placeholders that actually occur
+ * in the message, so expensive values (balance, rank, ping) are never computed for messages
+ * that do not use them. Unresolved placeholders are left as written.
+ * </p>
+ * <p>
+ * A placeholder may name a format - {@code {amount:number}}, {@code {time:duration}},
+ * {@code {date:short}} - applied to raw values passed in {@link PlaceholderValues}
+ * (see {@link MessageFormats} for the list of formats).
+ * </p>
+ */
+public final class MessageTemplate {
+
+    private final String source;
+    private final String[] literals;
+    private final String[] names;
+    private final String[] formats;
+    private final Set<String> placeholderNames;
+
+    private MessageTemplate(String source, String[] literals, String[] names, String[] formats) {
+        this.source = source;
+        this.literals = literals;
+        this.names = names;
+        this.formats = formats;
+        Set<String> unique = new LinkedHashSet<>();
+        Collections.addAll(unique, names);
+        this.placeholderNames = Collections.unmodifiableSet(unique);
+    }
+
+    /**
+     * Compiles a message. Placeholder names may contain letters, digits, '_', '-' and '.',
+     * optionally followed by {@code :format}.
+     */
+    public static MessageTemplate compile(String message) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<String> formats = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        while (i < message.length()) {
+            char c = message.charAt(i);
+            if (c == '{') {
+                int end = placeholderEnd(message, i + 1);
+                if (end > i + 1) {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    String token = message.substring(i + 1, end);
+                    int colon = token.indexOf(':');
+                    names.add(colon < 0 ? token : token.substring(0, colon));
+                    formats.add(colon < 0 ? null : token.substring(colon + 1));
+                    i = end + 1;
+                    continue;
+                }
+            }
+            literal.append(c);
+            i++;
+        }
+        literals.add(literal.toString());
+        return new MessageTemplate(message, literals.toArray(new String[0]),
+                names.toArray(new String[0]), formats.toArray(new String[0]));
+    }
+
+    // Indeks '}' zamykającego poprawny placeholder, albo -1
+    private static int placeholderEnd(String message, int start) {
+        boolean format = false;
+        for (int i = start; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (c == '}') {
+                // Pusta nazwa lub pusty format ("{:x}", "{name:}") nie są placeholderami
+                return message.charAt(i - 1) == ':' ? -1 : i;
+            }
+            if (c == ':' && !format && i > start) {
+                format = true;
+                continue;
+            }
+            if (!(Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.')) return -1;
+        }
+        return -1;
+    }
+
+    /**
+     * Names of placeholders present in the message, in order of first occurrence
+     */
+    public Set<String> getPlaceholders() {
+        return placeholderNames;
+    }
+
+    public boolean hasPlaceholders() {
+        return names.length > 0;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Renders the message, resolving each placeholder occurrence through the resolver
+     * (the {@code :format} part is ignored)
+     */
+    public String render(Resolver resolver) {
+        return render(null, Locale.ROOT, resolver);
+    }
+
+    /**
+     * Renders the message with typed values formatted for the locale. Placeholders without a
+     * value fall back to the resolver (may be null).
+     */
+    public String render(PlaceholderValues values, Locale locale, Resolver fallback) {
+        if (names.length == 0) return source;
+
+        StringBuilder out = new StringBuilder(source.length() + 16 * names.length);
+        String[] resolved = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            out.append(literals[i]);
+            String value = resolveOnce(values, locale, fallback, resolved, i);
+            if (value != null) {
+                out.append(value);
+            } else {
+                out.append('{').append(names[i]);
+                if (formats[i] != null) out.append(':').append(formats[i]);
+                out.append('}');
+            }
+        }
+        out.append(literals[names.length]);
+        return out.toString();
+    }
+
+    // Ten sam placeholder (nazwa + format) użyty kilka razy jest rozwiązywany tylko raz
+    private String resolveOnce(PlaceholderValues values, Locale locale, Resolver fallback, String[] resolved, int index) {
+        for (int j = 0; j < index; j++) {
+            if (names[j].equals(names[index]) && Objects.equals(formats[j], formats[index])) {
+                resolved[index] = resolved[j];
+                return resolved[j];
+            }
+        }
+        String value = values != null ? values.format(names[index], formats[index], locale) : null;
+        if (value == null && fallback != null) value = fallback.resolve(names[index]);
+        resolved[index] = value;
+        return value;
+    }
+
+    @FunctionalInterface
+    public interface Resolver {
+        /**
+         * @return Value for the placeholder, or null to leave it untouched
+         */
+        String resolve(String name);
+    }
+}
@@ -0,0 +1,276 @@
+package me.thezombiepl.plugin.zcore.messages;
+
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Registry of named placeholder providers shared by every {@link MessageManager}.
+ * <p>
+ * Providers are only called for placeholders present in the compiled message template.
+ * Each provider has its own TTL; values are cached per player (or once for global providers)
+ * and expire automatically. Async providers never block: while a value is loading the previous
+ * value (or the provider's fallback) is returned; a failed load keeps that value and is retried
+ * after {@link #FAILURE_RETRY_MILLIS}. ZCore drops the entries of a player from the shared
+ * registry when they quit; other registries should call {@link #invalidatePlayer(Object)}.
+ * </p>
+ *
+ * <pre>{@code
+ * PlaceholderRegistry registry = PlaceholderRegistry.shared();
+ * registry.registerPlayer("balance", 5000, player -> economy.format(player));
+ * registry.registerGlobal("online", 1000, () -> String.valueOf(Bukkit.getOnlinePlayers().size()));
+ * registry.registerAsync("rank", 60000, "...", player -> storage.loadRank(player));
+ *
+ * // messages_en.yml: "balance: '&7Balance: &a{balance} &7({online} online)'"
+ * String msg = messageManager.getPlayerMessage("balance", "", player);
+ * }</pre>
+ */
+public class PlaceholderRegistry {
+
+    /** Delay before a failed async load is attempted again */
+    public static final long FAILURE_RETRY_MILLIS = 5000L;
+
+    private static final PlaceholderRegistry SHARED = new PlaceholderRegistry();
+
+    // Co ile odczytów usuwamy przeterminowane wpisy z cache
+    private static final int PURGE_INTERVAL = 4096;
+
+    private static final Object GLOBAL = new Object();
+
+    private final Map<String, Provider> providers = new ConcurrentHashMap<>();
+    private final Map<CacheKey, Entry> cache = new ConcurrentHashMap<>();
+    private final AtomicInteger readsSincePurge = new AtomicInteger();
+    private final Map<Class<?>, Method> idMethods = new ConcurrentHashMap<>();
+
+    /**
+     * Registry used by default by every MessageManager
+     */
+    public static PlaceholderRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * Registers a provider computed per player (on the calling thread)
+     *
+     * @param ttlMillis How long a computed value stays cached (0 = never cache)
+     */
+    public void registerPlayer(String name, long ttlMillis, PlayerProvider provider) {
+        register(name, new Provider(ttlMillis, provider, null, null, null));
+    }
+
+    /**
+     * Registers a provider whose value is the same for every player
+     */
+    public void registerGlobal(String name, long ttlMillis, Supplier<String> provider) {
+        register(name, new Provider(ttlMillis, null, provider, null, null));
+    }
+
+    /**
+     * Registers a non-blocking provider for values coming from storage.
+     *
+     * @param fallback Value returned while nothing has been loaded yet
+     */
+    public void registerAsync(String name, long ttlMillis, String fallback, AsyncProvider provider) {
+        register(name, new Provider(ttlMillis, null, null, provider, fallback));
+    }
+
+    public void unregister(String name) {
+        providers.remove(name);
+        invalidatePlaceholder(name);
+    }
+
+    public boolean isRegistered(String name) {
+        return providers.containsKey(name);
+    }
+
+    /**
+     * Resolves a placeholder for a player (may be null for global-only resolution)
+     *
+     * @return Value, or null if no provider is registered under this name
+     */
+    public String resolve(String name, Object player) {
+        Provider provider = providers.get(name);
+        if (provider == null) return null;
+
+        if (readsSincePurge.incrementAndGet() >= PURGE_INTERVAL) {
+            readsSincePurge.set(0);
+            purgeExpired();
+        }
+
+        if (provider.player != null || provider.async != null) {
+            if (player == null) return null;
+        }
+
+        Object owner = provider.global != null ? GLOBAL : playerKey(player);
+        CacheKey key = new CacheKey(name, owner);
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(key);
+
+        if (entry != null && entry.expiresAt > now) {
+            return entry.value;
+        }
+
+        if (provider.async != null) {
+            // Ładowanie już trwa - zwracamy poprzednią wartość zamiast startować kolejne
+            if (entry != null && entry.loading) return entry.value;
+            loadAsync(provider, key, player, entry);
+            return entry != null ? entry.value : provider.fallback;
+        }
+
+        String value = provider.global != null ? provider.global.get() : provider.player.get(player);
+        if (provider.ttlMillis > 0) {
+            cache.put(key, new Entry(value, now + provider.ttlMillis));
+        }
+        return value;
+    }
+
+    /**
+     * Drops every cached value of a player (called by ZCore on quit for {@link #shared()})
+     */
+    public void invalidatePlayer(Object player) {
+        Object owner = playerKey(player);
+        cache.keySet().removeIf(key -> key.owner.equals(owner));
+    }
+
+    public void invalidatePlaceholder(String name) {
+        cache.keySet().removeIf(key -> key.name.equals(name));
+    }
+
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<Entry> it = cache.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.expiresAt <= now && !entry.loading) it.remove();
+        }
+    }
+
+    public int getCachedEntries() {
+        return cache.size();
+    }
+
+    private void register(String name, Provider provider) {
+        Objects.requireNonNull(name, "name");
+        providers.put(name, provider);
+        invalidatePlaceholder(name);
+    }
+
+    private void loadAsync(Provider provider, CacheKey key, Object player, Entry stale) {
+        Entry marker = new Entry(stale != null ? stale.value : provider.fallback, stale != null ? stale.expiresAt : 0L);
+        marker.loading = true;
+        // Tylko jedno ładowanie na klucz naraz
+        boolean claimed = stale == null ? cache.putIfAbsent(key, marker) == null : cache.replace(key, stale, marker);
+        if (!claimed) return;
+
+        CompletableFuture<String> future;
+        try {
+            future = provider.async.get(player);
+        } catch (Exception e) {
+            retryLater(key, marker);
+            return;
+        }
+        future.whenComplete((value, error) -> {
+            if (error != null || value == null) {
+                retryLater(key, marker);
+            } else {
+                cache.replace(key, marker, new Entry(value, System.currentTimeMillis() + Math.max(1L, provider.ttlMillis)));
+            }
+        });
+    }
+
+    // Błąd magazynu - zostawiamy poprzednią wartość (lub fallback) i nie pytamy ponownie przez FAILURE_RETRY_MILLIS
+    private void retryLater(CacheKey key, Entry marker) {
+        cache.replace(key, marker, new Entry(marker.value, System.currentTimeMillis() + FAILURE_RETRY_MILLIS));
+    }
+
+    // UUID gracza (Bukkit, Velocity, headless - wszystkie mają getUniqueId()), w ostateczności sam obiekt
+    private Object playerKey(Object player) {
+        Method method = idMethods.get(player.getClass());
+        if (method == null) {
+            try {
+                method = player.getClass().getMethod("getUniqueId");
+                method.setAccessible(true);
+            } catch (Exception e) {
+                return player;
+            }
+            idMethods.put(player.getClass(), method);
+        }
+        try {
+            Object id = method.invoke(player);
+            return id != null ? id : player;
+        } catch (Exception e) {
+            return player;
+        }
+    }
+
+    /* =========================
+       Providers
+       ========================= */
+
+    @FunctionalInterface
+    public interface PlayerProvider {
+        String get(Object player);
+    }
+
+    @FunctionalInterface
+    public interface AsyncProvider {
+        CompletableFuture<String> get(Object player);
+    }
+
+    private static final class Provider {
+        final long ttlMillis;
+        final PlayerProvider player;
+        final Supplier<String> global;
+        final AsyncProvider async;
+        final String fallback;
+
+        Provider(long ttlMillis, PlayerProvider player, Supplier<String> global, AsyncProvider async, String fallback) {
+            this.ttlMillis = ttlMillis;
+            this.player = player;
+            this.global = global;
+            this.async = async;
+            this.fallback = fallback;
+        }
+    }
+
+    private static final class CacheKey {
+        final String name;
+        final Object owner;
+        final int hash;
+
+        CacheKey(String name, Object owner) {
+            this.name = name;
+            this.owner = owner;
+            this.hash = 31 * name.hashCode() + owner.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CacheKey)) return false;
+            CacheKey other = (CacheKey) o;
+            return name.equals(other.name) && owner.equals(other.owner);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+        final String value;
+        final long expiresAt;
+        volatile boolean loading;
+
+        Entry(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package me.thezombiepl.plugin.zcore.messages;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Raw placeholder values for typed message templates.
+ * <p>
+ * Numbers are stored in primitive arrays, so {@code long}/{@code double} values are never boxed
+ * or pre-formatted - the template's {@code :format} decides how they are printed.
+ * Instances are mutable and can be reused with {@link #clear()}.
+ * </p>
+ *
+ * <pre>{@code
+ * // messages_en.yml: "paid: '&aPaid {amount:decimal} to {player} ({time:duration} ago, {date:short})'"
+ * String msg = messageManager.format("paid", "", PlaceholderValues.create()
+ *         .put("amount", 1234.5)
+ *         .put("player", target.getName())
+ *         .put("time", elapsedMillis)
+ *         .put("date", Instant.now()));
+ * }</pre>
+ */
+public final class PlaceholderValues {
+
+    private static final byte LONG = 0;
+    private static final byte DOUBLE = 1;
+    private static final byte OBJECT = 2;
+
+    private String[] names;
+    private byte[] types;
+    private long[] longs;
+    private double[] doubles;
+    private Object[] objects;
+    private int size;
+
+    private PlaceholderValues(int capacity) {
+        names = new String[capacity];
+        types = new byte[capacity];
+        longs = new long[capacity];
+        doubles = new double[capacity];
+        objects = new Object[capacity];
+    }
+
+    public static PlaceholderValues create() {
+        return new PlaceholderValues(4);
+    }
+
+    public PlaceholderValues put(String name, long value) {
+        int i = slot(name);
+        types[i] = LONG;
+        longs[i] = value;
+        objects[i] = null;
+        return this;
+    }
+
+    public PlaceholderValues put(String name, double value) {
+        int i = slot(name);
+        types[i] = DOUBLE;
+        doubles[i] = value;
+        objects[i] = null;
+        return this;
+    }
+
+    /**
+     * @param value String, {@link java.time.Instant}, {@link java.time.Duration}, {@link java.util.Date} or any object
+     */
+    public PlaceholderValues put(String name, Object value) {
+        int i = slot(name);
+        types[i] = OBJECT;
+        objects[i] = value;
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public PlaceholderValues clear() {
+        Arrays.fill(objects, 0, size, null);
+        Arrays.fill(names, 0, size, null);
+        size = 0;
+        return this;
+    }
+
+    /**
+     * Formats a value for a template placeholder
+     *
+     * @return Formatted value, or null if the name is not set
+     */
+    String format(String name, String format, Locale locale) {
+        for (int i = 0; i < size; i++) {
+            if (!names[i].equals(name)) continue;
+            switch (types[i]) {
+                case LONG:
+                    return MessageFormats.format(longs[i], format, locale);
+                case DOUBLE:
+                    return MessageFormats.format(doubles[i], format, locale);
+                default:
+                    return MessageFormats.format(objects[i], format, locale);
+            }
+        }
+        return null;
+    }
+
+    private int slot(String name) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name)) return i;
+        }
+        if (size == names.length) {
+            int capacity = size * 2;
+            names = Arrays.copyOf(names, capacity);
+            types = Arrays.copyOf(types, capacity);
+            longs = Arrays.copyOf(longs, capacity);
+            doubles = Arrays.copyOf(doubles, capacity);
+            objects = Arrays.copyOf(objects, capacity);
+        }
+        names[size] = name;
+        return size++;
+    }
+}
@@ -0,0 +1,164 @@
+package me.thezombiepl.plugin.zcore.profiling;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Always-on, low-overhead runtime statistics behind the {@code /zcore} command.
+ * <p>
+ * Unlike {@link Profiler} (JFR events, only when a recording is running) these counters are kept
+ * in memory: live ZCore objects per owning plugin (weakly referenced - tracking never keeps a
+ * manager alive), file load/reload/save timings and per-command dispatch timings.
+ * </p>
+ * <p>
+ * Owners are identified by {@link #ownerOf(Object)}: the plugin name on Paper and the
+ * {@code @Plugin} id on Velocity - on both platforms the name of the plugin's data folder,
+ * which managers created from a bare data folder use.
+ * </p>
+ */
+public final class Diagnostics {
+
+    // Obiekt → nazwa właściciela; klucze porównywane przez identity (managery nie nadpisują equals)
+    private static final Map<Object, String> instances = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, Timing> fileTimings = new ConcurrentHashMap<>();
+    private static final Map<String, Timing> commandTimings = new ConcurrentHashMap<>();
+
+    private Diagnostics() {}
+
+    /**
+     * Owner identifier of a plugin instance (Paper plugin name, Velocity {@code @Plugin} id)
+     */
+    public static String ownerOf(Object plugin) {
+        // Velocity: adnotacja @Plugin(id = ...) - szukana po nazwie, żeby nie ładować klas Velocity na Paperze
+        for (Annotation annotation : plugin.getClass().getAnnotations()) {
+            if (!"com.velocitypowered.api.plugin.Plugin".equals(annotation.annotationType().getName())) continue;
+            try {
+                Object id = annotation.annotationType().getMethod("id").invoke(annotation);
+                if (id != null) return id.toString();
+            } catch (Exception ignored) {}
+        }
+        // Paper: JavaPlugin#getName()
+        try {
+            Object name = plugin.getClass().getMethod("getName").invoke(plugin);
+            if (name != null) return name.toString();
+        } catch (Exception ignored) {}
+        return plugin.getClass().getSimpleName();
+    }
+
+    /**
+     * Tracks a live ZCore object (ConfigManager, MessageManager, command) under its owner
+     *
+     * @param owner {@link #ownerOf(Object)} of the plugin, or its data folder name when only the folder is known
+     */
+    public static void track(String owner, Object instance) {
+        instances.put(instance, owner != null ? owner : "unknown");
+    }
+
+    /**
+     * Live tracked instances of a type grouped by owner, owners sorted by name
+     */
+    public static <T> Map<String, List<T>> instancesByOwner(Class<T> type) {
+        Map<String, List<T>> grouped = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        synchronized (instances) {
+            for (Map.Entry<Object, String> entry : instances.entrySet()) {
+                Object instance = entry.getKey();
+                if (instance == null || !type.isInstance(instance)) continue;
+                grouped.computeIfAbsent(entry.getValue(), k -> new ArrayList<>()).add(type.cast(instance));
+            }
+        }
+        return grouped;
+    }
+
+    /**
+     * Records a file operation, e.g. {@code "config.reload"} or {@code "messages.save"}
+     */
+    public static void recordFile(String operation, long nanos) {
+        fileTimings.computeIfAbsent(operation, k -> new Timing()).record(nanos);
+    }
+
+    /**
+     * Records one dispatch of a command, keyed {@code owner:command} (commands of different plugins
+     * with the same name are timed separately)
+     *
+     * @param owner {@link #ownerOf(Object)} of the registering plugin
+     * @param command Main command name
+     */
+    public static void recordCommand(String owner, String command, long nanos) {
+        String key = (owner != null ? owner.toLowerCase(Locale.ROOT) : "unknown") + ":" + command;
+        commandTimings.computeIfAbsent(key, k -> new Timing()).record(nanos);
+    }
+
+    /**
+     * File operation timings sorted by operation name
+     */
+    public static Map<String, Timing> getFileTimings() {
+        return new TreeMap<>(fileTimings);
+    }
+
+    /**
+     * Commands ({@code owner:command}) ordered by their slowest dispatch, slowest first
+     */
+    public static List<Map.Entry<String, Timing>> getSlowestCommands(int limit) {
+        List<Map.Entry<String, Timing>> sorted = new ArrayList<>(commandTimings.entrySet());
+        sorted.sort((a, b) -> Long.compare(b.getValue().getMaxNanos(), a.getValue().getMaxNanos()));
+        return sorted.size() > limit ? new ArrayList<>(sorted.subList(0, limit)) : sorted;
+    }
+
+    /**
+     * Clears file and command timings (tracked instances are kept)
+     */
+    public static void resetTimings() {
+        fileTimings.clear();
+        commandTimings.clear();
+    }
+
+    /**
+     * Count / total / max / last duration of one operation
+     */
+    public static final class Timing {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile long lastNanos;
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            lastNanos = nanos;
+            long max;
+            while (nanos > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, nanos)) {
+                // ponawiamy - inny wątek zapisał nowe maksimum
+            }
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        public long getLastNanos() {
+            return lastNanos;
+        }
+
+        public long getAverageNanos() {
+            long n = count.sum();
+            return n == 0 ? 0L : totalNanos.sum() / n;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package me.thezombiepl.plugin.zcore.profiling;
+
+/**
+ * Entry point for ZCore's Java Flight Recorder events.
+ * <p>
+ * The JFR implementation lives in a separate source set compiled for Java 11 and is loaded
+ * reflectively, because ZCore itself targets Java 8. When JFR is unavailable, disabled with
+ * {@code -Dzcore.jfr=false}, or an event type is not enabled in the running recording,
+ * every method returns a shared no-op span - no allocation, no timing.
+ * </p>
+ *
+ * <pre>{@code
+ * Profiler.TextSpan span = Profiler.colorize();
+ * Component result = ...;
+ * span.end(message.length(), false);
+ * }</pre>
+ */
+public final class Profiler {
+
+    private static final String JFR_PROBE = "me.thezombiepl.plugin.zcore.profiling.jfr.JfrProbe";
+
+    private static final Probe PROBE = loadProbe();
+
+    private Profiler() {}
+
+    /**
+     * Colorize (MiniMessage/legacy parse) span
+     */
+    public static TextSpan colorize() {
+        return PROBE.colorize();
+    }
+
+    /**
+     * Component serialization span
+     */
+    public static TextSpan serialize() {
+        return PROBE.serialize();
+    }
+
+    /**
+     * Message lookup span
+     */
+    public static LookupSpan messageLookup() {
+        return PROBE.messageLookup();
+    }
+
+    /**
+     * Config/message file load, reload or save span
+     */
+    public static FileSpan fileOperation() {
+        return PROBE.fileOperation();
+    }
+
+    /**
+     * Command dispatch span
+     */
+    public static CommandSpan commandDispatch() {
+        return PROBE.commandDispatch();
+    }
+
+    /**
+     * @return true if JFR events are being emitted (JFR present and not disabled)
+     */
+    public static boolean isAvailable() {
+        return PROBE != NoopProbe.INSTANCE;
+    }
+
+    private static Probe loadProbe() {
+        if ("false".equalsIgnoreCase(System.getProperty("zcore.jfr"))) {
+            return NoopProbe.INSTANCE;
+        }
+        try {
+            Class.forName("jdk.jfr.FlightRecorder");
+            return (Probe) Class.forName(JFR_PROBE).getDeclaredConstructor().newInstance();
+        } catch (Throwable ignored) {
+            // Java 8 bez JFR API lub brak klas z source setu jfr
+            return NoopProbe.INSTANCE;
+        }
+    }
+
+    /* =========================
+       Spans
+       ========================= */
+
+    public interface TextSpan {
+        /**
+         * @param length Length of the text side: the input string for colorize, the produced string for serialize
+         */
+        void end(int length, boolean cacheHit);
+    }
+
+    public interface LookupSpan {
+        void end(String key, String locale, int placeholderCount);
+    }
+
+    public interface FileSpan {
+        void end(String operation, String file, long bytes);
+    }
+
+    public interface CommandSpan {
+        void end(String command, String subCommand, boolean async);
+    }
+
+    /**
+     * Factory of spans; implemented by the JFR probe
+     */
+    public interface Probe {
+        TextSpan colorize();
+
+        TextSpan serialize();
+
+        LookupSpan messageLookup();
+
+        FileSpan fileOperation();
+
+        CommandSpan commandDispatch();
+    }
+
+    /**
+     * Shared no-op span returned whenever an event is disabled
+     */
+    public static final class NoopSpan implements TextSpan, LookupSpan, FileSpan, CommandSpan {
+
+        public static final NoopSpan INSTANCE = new NoopSpan();
+
+        private NoopSpan() {}
+
+        @Override
+        public void end(int length, boolean cacheHit) {
+        }
+
+        @Override
+        public void end(String key, String locale, int placeholderCount) {
+        }
+
+        @Override
+        public void end(String operation, String file, long bytes) {
+        }
+
+        @Override
+        public void end(String command, String subCommand, boolean async) {
+        }
+    }
+
+    private static final class NoopProbe implements Probe {
+
+        static final NoopProbe INSTANCE = new NoopProbe();
+
+        @Override
+        public TextSpan colorize() {
+            return NoopSpan.INSTANCE;
+        }
+
+        @Override
+        public TextSpan serialize() {
+            return NoopSpan.INSTANCE;
+        }
+
+        @Override
+        public LookupSpan messageLookup() {
+            return NoopSpan.INSTANCE;
+        }
+
+        @Override
+        public FileSpan fileOperation() {
+            return NoopSpan.INSTANCE;
+        }
+
+        @Override
+        public CommandSpan commandDispatch() {
+            return NoopSpan.INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package me.thezombiepl.plugin.zcore.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Paper/Spigot implementation - entity and location tasks run on the main thread
+ */
+public class BukkitZScheduler implements ZScheduler {
+
+    private final Plugin plugin;
+    private final BukkitScheduler scheduler;
+
+    public BukkitZScheduler(Object plugin) {
+        this.plugin = (Plugin) plugin;
+        this.scheduler = Bukkit.getScheduler();
+    }
+
+    @Override
+    public ZTask runGlobal(Runnable task) {
+        return wrap(scheduler.runTask(plugin, task));
+    }
+
+    @Override
+    public ZTask runGlobalLater(Runnable task, long delayTicks) {
+        return wrap(scheduler.runTaskLater(plugin, task, delayTicks));
+    }
+
+    @Override
+    public ZTask runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        return wrap(scheduler.runTaskTimer(plugin, task, delayTicks, periodTicks));
+    }
+
+    @Override
+    public ZTask runAsync(Runnable task) {
+        return wrap(scheduler.runTaskAsynchronously(plugin, task));
+    }
+
+    @Override
+    public ZTask runAsyncLater(Runnable task, long delayTicks) {
+        return wrap(scheduler.runTaskLaterAsynchronously(plugin, task, delayTicks));
+    }
+
+    @Override
+    public ZTask runAsyncTimer(Runnable task, long delayTicks, long periodTicks) {
+        return wrap(scheduler.runTaskTimerAsynchronously(plugin, task, delayTicks, periodTicks));
+    }
+
+    @Override
+    public ZTask runAtEntity(Object entity, Runnable task) {
+        return runGlobal(task);
+    }
+
+    @Override
+    public ZTask runAtEntityLater(Object entity, Runnable task, long delayTicks) {
+        return runGlobalLater(task, delayTicks);
+    }
+
+    @Override
+    public ZTask runAtEntityTimer(Object entity, Runnable task, long delayTicks, long periodTicks) {
+        return runGlobalTimer(task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public ZTask runAtLocation(Object location, Runnable task) {
+        return runGlobal(task);
+    }
+
+    @Override
+    public ZTask runAtLocationLater(Object location, Runnable task, long delayTicks) {
+        return runGlobalLater(task, delayTicks);
+    }
+
+    @Override
+    public ZTask runAtLocationTimer(Object location, Runnable task, long delayTicks, long periodTicks) {
+        return runGlobalTimer(task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Object owner) {
+        return Bukkit.isPrimaryThread();
+    }
+
+    private static ZTask wrap(BukkitTask task) {
+        return new ZTask() {
+            @Override
+            public void cancel() {
+                task.cancel();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return task.isCancelled();
+            }
+        };
+    }
+}
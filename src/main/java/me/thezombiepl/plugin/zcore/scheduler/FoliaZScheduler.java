@@ -0,0 +1,196 @@
+package me.thezombiepl.plugin.zcore.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Folia implementation on top of the global region, region, entity and async schedulers.
+ * <p>
+ * ZCore compiles against the Paper 1.16.5 API, so the Folia scheduler API is resolved once
+ * through reflection. Folia rejects delays below one tick, so delays are clamped to 1.
+ * </p>
+ */
+public class FoliaZScheduler implements ZScheduler {
+
+    private static final String PACKAGE = "io.papermc.paper.threadedregions.scheduler.";
+
+    private final Plugin plugin;
+    private final Object globalScheduler;
+    private final Object regionScheduler;
+    private final Object asyncScheduler;
+
+    private final Method globalRun;
+    private final Method globalRunDelayed;
+    private final Method globalRunAtFixedRate;
+    private final Method regionRun;
+    private final Method regionRunDelayed;
+    private final Method regionRunAtFixedRate;
+    private final Method asyncRunNow;
+    private final Method asyncRunDelayed;
+    private final Method asyncRunAtFixedRate;
+    private final Method entityGetScheduler;
+    private final Method entityRun;
+    private final Method entityRunDelayed;
+    private final Method entityRunAtFixedRate;
+    private final Method taskCancel;
+    private final Method taskIsCancelled;
+    private final Method ownedByEntity;
+    private final Method ownedByLocation;
+    private final Method isGlobalTickThread;
+
+    public FoliaZScheduler(Object plugin) {
+        this.plugin = (Plugin) plugin;
+        try {
+            Class<?> global = Class.forName(PACKAGE + "GlobalRegionScheduler");
+            Class<?> region = Class.forName(PACKAGE + "RegionScheduler");
+            Class<?> async = Class.forName(PACKAGE + "AsyncScheduler");
+            Class<?> entity = Class.forName(PACKAGE + "EntityScheduler");
+            Class<?> task = Class.forName(PACKAGE + "ScheduledTask");
+
+            this.globalScheduler = Bukkit.class.getMethod("getGlobalRegionScheduler").invoke(null);
+            this.regionScheduler = Bukkit.class.getMethod("getRegionScheduler").invoke(null);
+            this.asyncScheduler = Bukkit.class.getMethod("getAsyncScheduler").invoke(null);
+
+            this.globalRun = global.getMethod("run", Plugin.class, Consumer.class);
+            this.globalRunDelayed = global.getMethod("runDelayed", Plugin.class, Consumer.class, long.class);
+            this.globalRunAtFixedRate = global.getMethod("runAtFixedRate", Plugin.class, Consumer.class, long.class, long.class);
+            this.regionRun = region.getMethod("run", Plugin.class, Location.class, Consumer.class);
+            this.regionRunDelayed = region.getMethod("runDelayed", Plugin.class, Location.class, Consumer.class, long.class);
+            this.regionRunAtFixedRate = region.getMethod("runAtFixedRate", Plugin.class, Location.class, Consumer.class, long.class, long.class);
+            this.asyncRunNow = async.getMethod("runNow", Plugin.class, Consumer.class);
+            this.asyncRunDelayed = async.getMethod("runDelayed", Plugin.class, Consumer.class, long.class, TimeUnit.class);
+            this.asyncRunAtFixedRate = async.getMethod("runAtFixedRate", Plugin.class, Consumer.class, long.class, long.class, TimeUnit.class);
+            this.entityGetScheduler = Entity.class.getMethod("getScheduler");
+            this.entityRun = entity.getMethod("run", Plugin.class, Consumer.class, Runnable.class);
+            this.entityRunDelayed = entity.getMethod("runDelayed", Plugin.class, Consumer.class, Runnable.class, long.class);
+            this.entityRunAtFixedRate = entity.getMethod("runAtFixedRate", Plugin.class, Consumer.class, Runnable.class, long.class, long.class);
+            this.taskCancel = task.getMethod("cancel");
+            this.taskIsCancelled = task.getMethod("isCancelled");
+            this.ownedByEntity = Bukkit.class.getMethod("isOwnedByCurrentRegion", Entity.class);
+            this.ownedByLocation = Bukkit.class.getMethod("isOwnedByCurrentRegion", Location.class);
+            this.isGlobalTickThread = Bukkit.class.getMethod("isGlobalTickThread");
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Folia scheduler API not found", e);
+        }
+    }
+
+    @Override
+    public ZTask runGlobal(Runnable task) {
+        return wrap(invoke(globalRun, globalScheduler, plugin, consumer(task)));
+    }
+
+    @Override
+    public ZTask runGlobalLater(Runnable task, long delayTicks) {
+        return wrap(invoke(globalRunDelayed, globalScheduler, plugin, consumer(task), ticks(delayTicks)));
+    }
+
+    @Override
+    public ZTask runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        return wrap(invoke(globalRunAtFixedRate, globalScheduler, plugin, consumer(task), ticks(delayTicks), ticks(periodTicks)));
+    }
+
+    @Override
+    public ZTask runAsync(Runnable task) {
+        return wrap(invoke(asyncRunNow, asyncScheduler, plugin, consumer(task)));
+    }
+
+    @Override
+    public ZTask runAsyncLater(Runnable task, long delayTicks) {
+        return wrap(invoke(asyncRunDelayed, asyncScheduler, plugin, consumer(task), delayTicks * 50L, TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public ZTask runAsyncTimer(Runnable task, long delayTicks, long periodTicks) {
+        return wrap(invoke(asyncRunAtFixedRate, asyncScheduler, plugin, consumer(task),
+                delayTicks * 50L, ticks(periodTicks) * 50L, TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public ZTask runAtEntity(Object entity, Runnable task) {
+        if (!(entity instanceof Entity)) return runGlobal(task);
+        return wrap(invoke(entityRun, entityScheduler(entity), plugin, consumer(task), null));
+    }
+
+    @Override
+    public ZTask runAtEntityLater(Object entity, Runnable task, long delayTicks) {
+        if (!(entity instanceof Entity)) return runGlobalLater(task, delayTicks);
+        return wrap(invoke(entityRunDelayed, entityScheduler(entity), plugin, consumer(task), null, ticks(delayTicks)));
+    }
+
+    @Override
+    public ZTask runAtEntityTimer(Object entity, Runnable task, long delayTicks, long periodTicks) {
+        if (!(entity instanceof Entity)) return runGlobalTimer(task, delayTicks, periodTicks);
+        return wrap(invoke(entityRunAtFixedRate, entityScheduler(entity), plugin, consumer(task), null,
+                ticks(delayTicks), ticks(periodTicks)));
+    }
+
+    @Override
+    public ZTask runAtLocation(Object location, Runnable task) {
+        return wrap(invoke(regionRun, regionScheduler, plugin, location, consumer(task)));
+    }
+
+    @Override
+    public ZTask runAtLocationLater(Object location, Runnable task, long delayTicks) {
+        return wrap(invoke(regionRunDelayed, regionScheduler, plugin, location, consumer(task), ticks(delayTicks)));
+    }
+
+    @Override
+    public ZTask runAtLocationTimer(Object location, Runnable task, long delayTicks, long periodTicks) {
+        return wrap(invoke(regionRunAtFixedRate, regionScheduler, plugin, location, consumer(task),
+                ticks(delayTicks), ticks(periodTicks)));
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Object owner) {
+        if (owner instanceof Entity) return (Boolean) invoke(ownedByEntity, null, owner);
+        if (owner instanceof Location) return (Boolean) invoke(ownedByLocation, null, owner);
+        return (Boolean) invoke(isGlobalTickThread, null);
+    }
+
+    private Object entityScheduler(Object entity) {
+        return invoke(entityGetScheduler, entity);
+    }
+
+    private static Consumer<Object> consumer(Runnable task) {
+        return scheduledTask -> task.run();
+    }
+
+    private static long ticks(long ticks) {
+        return Math.max(1L, ticks);
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IllegalStateException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Entity.getScheduler().run(...) zwraca null, jeśli encja została już usunięta
+    private ZTask wrap(Object scheduledTask) {
+        if (scheduledTask == null) return ZTask.CANCELLED;
+        return new ZTask() {
+            @Override
+            public void cancel() {
+                invoke(taskCancel, scheduledTask);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return (Boolean) invoke(taskIsCancelled, scheduledTask);
+            }
+        };
+    }
+}
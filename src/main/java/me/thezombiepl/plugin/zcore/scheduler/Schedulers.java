@@ -0,0 +1,67 @@
+package me.thezombiepl.plugin.zcore.scheduler;
+
+/**
+ * Factory of platform schedulers and holder of the scheduler installed by ZCore itself.
+ *
+ * <pre>{@code
+ * // Paper, Spigot or Folia - picked at runtime
+ * ZScheduler scheduler = Schedulers.bukkit(plugin);
+ *
+ * // Velocity
+ * ZScheduler scheduler = Schedulers.velocity(plugin, proxyServer);
+ * }</pre>
+ */
+public final class Schedulers {
+
+    private static final boolean FOLIA = classExists("io.papermc.paper.threadedregions.RegionizedServer");
+
+    private static volatile ZScheduler platform;
+
+    private Schedulers() {}
+
+    /**
+     * Scheduler for a Bukkit plugin - region-aware on Folia, Bukkit scheduler otherwise
+     */
+    public static ZScheduler bukkit(Object plugin) {
+        return FOLIA ? new FoliaZScheduler(plugin) : new BukkitZScheduler(plugin);
+    }
+
+    /**
+     * Scheduler for a Velocity plugin
+     */
+    public static ZScheduler velocity(Object plugin, Object proxy) {
+        return new VelocityZScheduler(plugin, proxy);
+    }
+
+    /**
+     * @return true when running on Folia (regions ticking in parallel)
+     */
+    public static boolean isFolia() {
+        return FOLIA;
+    }
+
+    /**
+     * Scheduler of the running ZCore plugin, used e.g. to deliver command replies on the sender's thread
+     *
+     * @return ZScheduler or null while ZCore is not enabled (headless, tests)
+     */
+    public static ZScheduler get() {
+        return platform;
+    }
+
+    /**
+     * Installs the platform scheduler; called by ZCore on enable/disable
+     */
+    public static void set(ZScheduler scheduler) {
+        platform = scheduler;
+    }
+
+    private static boolean classExists(String name) {
+        try {
+            Class.forName(name);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package me.thezombiepl.plugin.zcore.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Time-sliced executor that spreads bulk work over many ticks.
+ * <p>
+ * Every tick it runs queued work units on the scheduler's global thread until the per-tick budget
+ * is used up, then continues on the next tick. Higher priority batches always run first; at least
+ * one unit runs per tick so work always makes progress. On Folia units run on the global region
+ * thread - work touching entities should hop with {@link ZScheduler#runAtEntity}.
+ * </p>
+ *
+ * <pre>{@code
+ * TickBudgetExecutor executor = new TickBudgetExecutor(Schedulers.bukkit(plugin), 2, TimeUnit.MILLISECONDS);
+ * executor.start();
+ *
+ * executor.submitAll(Bukkit.getOnlinePlayers(), player -> refreshScoreboard(player),
+ *         TickBudgetExecutor.Priority.NORMAL,
+ *         (done, total) -> getLogger().info("Refreshed " + done + "/" + total));
+ * }</pre>
+ */
+public class TickBudgetExecutor {
+
+    public enum Priority {
+        HIGH, NORMAL, LOW
+    }
+
+    private final ZScheduler scheduler;
+    private final long budgetNanos;
+    private final Queue<Batch<?>>[] queues;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final LongAdder completedUnits = new LongAdder();
+    private final LongAdder failedUnits = new LongAdder();
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder exhaustedTicks = new LongAdder();
+    private final LongAdder usedNanos = new LongAdder();
+    private volatile long lastTickNanos;
+    private volatile ZTask task;
+    // Tylko jeden wątek naraz zdejmuje paczki z kolejek (runTick lub cancelAll)
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean purgeRequested;
+
+    /**
+     * @param scheduler Platform scheduler the executor ticks on
+     * @param budget Maximum time spent on queued work per tick (e.g. 2 ms)
+     */
+    @SuppressWarnings("unchecked")
+    public TickBudgetExecutor(ZScheduler scheduler, long budget, TimeUnit unit) {
+        if (budget <= 0) throw new IllegalArgumentException("budget must be > 0");
+        this.scheduler = scheduler;
+        this.budgetNanos = unit.toNanos(budget);
+        this.queues = new Queue[Priority.values().length];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Starts processing queued work once per tick
+     */
+    public void start() {
+        stop();
+        task = scheduler.runGlobalTimer(this::runTick, 1L, 1L);
+    }
+
+    /**
+     * Stops ticking. Queued work stays queued until {@link #start()} or {@link #cancelAll()}.
+     */
+    public void stop() {
+        ZTask current = task;
+        task = null;
+        if (current != null) current.cancel();
+    }
+
+    /**
+     * Queues a single unit of work
+     */
+    public Batch<Runnable> submit(Runnable unit, Priority priority) {
+        List<Runnable> single = new ArrayList<>(1);
+        single.add(unit);
+        return submitAll(single, Runnable::run, priority, null);
+    }
+
+    /**
+     * Queues one unit of work per item. The collection is copied, so it may change afterwards.
+     *
+     * @param progress Called on the tick thread after every tick the batch made progress (may be null)
+     */
+    public <T> Batch<T> submitAll(Collection<? extends T> items, Consumer<? super T> action,
+                                  Priority priority, ProgressListener progress) {
+        Batch<T> batch = new Batch<>(new ArrayList<T>(items), action, progress);
+        if (batch.total == 0) {
+            batch.complete();
+            return batch;
+        }
+        backlog.addAndGet(batch.total);
+        queues[priority.ordinal()].add(batch);
+        return batch;
+    }
+
+    /**
+     * Runs queued work until the budget is used up. Called every tick by {@link #start()};
+     * can be called directly when ticking manually (e.g. headless tests).
+     */
+    public void runTick() {
+        if (!running.compareAndSet(false, true)) return;
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        List<Batch<?>> progressed = new ArrayList<>(4);
+        boolean exhausted = false;
+
+        try {
+            outer:
+            for (Queue<Batch<?>> queue : queues) {
+                Batch<?> batch;
+                while ((batch = queue.peek()) != null) {
+                    if (batch.cancelled) {
+                        retire(queue, batch);
+                        continue;
+                    }
+                    boolean first = progressed.isEmpty() || progressed.get(progressed.size() - 1) != batch;
+                    if (first) progressed.add(batch);
+
+                    while (batch.hasNext()) {
+                        if (batch.runNext()) {
+                            completedUnits.increment();
+                        } else {
+                            failedUnits.increment();
+                        }
+                        backlog.decrementAndGet();
+                        if (System.nanoTime() >= deadline) {
+                            exhausted = batch.hasNext() || hasWork();
+                            if (!batch.hasNext()) retire(queue, batch);
+                            break outer;
+                        }
+                    }
+                    // Wykonana do końca (remaining = 0) albo anulowana w trakcie
+                    retire(queue, batch);
+                }
+            }
+        } finally {
+            running.set(false);
+        }
+        purgeIfRequested();
+
+        long used = System.nanoTime() - start;
+        lastTickNanos = used;
+        usedNanos.add(used);
+        ticks.increment();
+        if (exhausted) exhaustedTicks.increment();
+
+        for (Batch<?> batch : progressed) {
+            batch.reportProgress();
+        }
+    }
+
+    /**
+     * Cancels every queued batch. Safe to call from any thread: if a tick is running,
+     * the batches are removed by that tick once it finishes.
+     */
+    public void cancelAll() {
+        for (Queue<Batch<?>> queue : queues) {
+            for (Batch<?> batch : queue) {
+                batch.cancel();
+            }
+        }
+        purgeRequested = true;
+        purgeIfRequested();
+    }
+
+    // Zdejmuje paczkę z czoła kolejki; pominięte jednostki anulowanej paczki znikają z backlogu
+    private void retire(Queue<Batch<?>> queue, Batch<?> batch) {
+        queue.poll();
+        backlog.addAndGet(-batch.remaining());
+    }
+
+    // Usuwa anulowane paczki, gdy żaden tick nie trwa; w przeciwnym razie zrobi to kończący się tick
+    private void purgeIfRequested() {
+        while (purgeRequested && running.compareAndSet(false, true)) {
+            try {
+                purgeRequested = false;
+                for (Queue<Batch<?>> queue : queues) {
+                    Iterator<Batch<?>> it = queue.iterator();
+                    while (it.hasNext()) {
+                        Batch<?> batch = it.next();
+                        if (!batch.cancelled) continue;
+                        it.remove();
+                        backlog.addAndGet(-batch.remaining());
+                    }
+                }
+            } finally {
+                running.set(false);
+            }
+        }
+    }
+
+    private boolean hasWork() {
+        for (Queue<Batch<?>> queue : queues) {
+            if (!queue.isEmpty()) return true;
+        }
+        return false;
+    }
+
+    /* =========================
+       Metrics
+       ========================= */
+
+    /**
+     * Work units queued but not yet run
+     */
+    public long getBacklog() {
+        return backlog.get();
+    }
+
+    public long getCompletedUnits() {
+        return completedUnits.sum();
+    }
+
+    public long getFailedUnits() {
+        return failedUnits.sum();
+    }
+
+    /**
+     * Ticks that ended because the budget ran out while work was still queued
+     */
+    public long getExhaustedTicks() {
+        return exhaustedTicks.sum();
+    }
+
+    public long getTicks() {
+        return ticks.sum();
+    }
+
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Average fraction of the budget used per tick (can exceed 1.0 when single units are slow)
+     */
+    public double getAverageBudgetUse() {
+        long count = ticks.sum();
+        return count == 0 ? 0.0 : (double) usedNanos.sum() / count / budgetNanos;
+    }
+
+    /**
+     * Progress callback of a batch
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(int completed, int total);
+    }
+
+    /**
+     * Handle of submitted work
+     */
+    public static final class Batch<T> {
+        private final Consumer<? super T> action;
+        private final ProgressListener progress;
+        private final int total;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final Iterator<T> iterator;
+        private volatile int completed;
+        private volatile boolean cancelled;
+
+        private Batch(List<T> items, Consumer<? super T> action, ProgressListener progress) {
+            this.action = action;
+            this.progress = progress;
+            this.total = items.size();
+            this.iterator = items.iterator();
+        }
+
+        private boolean hasNext() {
+            return !cancelled && iterator.hasNext();
+        }
+
+        private boolean runNext() {
+            T item = iterator.next();
+            try {
+                action.accept(item);
+                return true;
+            } catch (Throwable t) {
+                System.err.println("[ZCore] Budgeted work unit failed: " + t);
+                t.printStackTrace();
+                return false;
+            } finally {
+                completed++;
+                if (completed == total) complete();
+            }
+        }
+
+        private void complete() {
+            future.complete(null);
+        }
+
+        private int remaining() {
+            return total - completed;
+        }
+
+        private void reportProgress() {
+            if (progress == null) return;
+            try {
+                progress.onProgress(completed, total);
+            } catch (Throwable t) {
+                t.printStackTrace();
+            }
+        }
+
+        public int getCompleted() {
+            return completed;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        /**
+         * Stops the batch; units not yet run are skipped
+         */
+        public void cancel() {
+            cancelled = true;
+            future.cancel(false);
+        }
+
+        /**
+         * Completes after the last unit ran (cancelled future if the batch was cancelled)
+         */
+        public CompletableFuture<Void> getFuture() {
+            return future;
+        }
+    }
+}
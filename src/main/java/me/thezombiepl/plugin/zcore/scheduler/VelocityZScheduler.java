@@ -0,0 +1,112 @@
+package me.thezombiepl.plugin.zcore.scheduler;
+
+import com.velocitypowered.api.proxy.ProxyServer;
+import com.velocitypowered.api.scheduler.ScheduledTask;
+import com.velocitypowered.api.scheduler.Scheduler;
+import com.velocitypowered.api.scheduler.TaskStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Velocity implementation. The proxy has no main thread or regions, so every task runs on the
+ * Velocity scheduler pool and ticks are converted to 50 ms steps.
+ */
+public class VelocityZScheduler implements ZScheduler {
+
+    private static final long TICK_MILLIS = 50L;
+
+    private final Object plugin;
+    private final Scheduler scheduler;
+
+    public VelocityZScheduler(Object plugin, Object proxy) {
+        this.plugin = plugin;
+        this.scheduler = ((ProxyServer) proxy).getScheduler();
+    }
+
+    @Override
+    public ZTask runGlobal(Runnable task) {
+        return wrap(scheduler.buildTask(plugin, task).schedule());
+    }
+
+    @Override
+    public ZTask runGlobalLater(Runnable task, long delayTicks) {
+        return wrap(scheduler.buildTask(plugin, task)
+                .delay(delayTicks * TICK_MILLIS, TimeUnit.MILLISECONDS)
+                .schedule());
+    }
+
+    @Override
+    public ZTask runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        return wrap(scheduler.buildTask(plugin, task)
+                .delay(delayTicks * TICK_MILLIS, TimeUnit.MILLISECONDS)
+                .repeat(periodTicks * TICK_MILLIS, TimeUnit.MILLISECONDS)
+                .schedule());
+    }
+
+    @Override
+    public ZTask runAsync(Runnable task) {
+        return runGlobal(task);
+    }
+
+    @Override
+    public ZTask runAsyncLater(Runnable task, long delayTicks) {
+        return runGlobalLater(task, delayTicks);
+    }
+
+    @Override
+    public ZTask runAsyncTimer(Runnable task, long delayTicks, long periodTicks) {
+        return runGlobalTimer(task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public ZTask runAtEntity(Object entity, Runnable task) {
+        return runGlobal(task);
+    }
+
+    @Override
+    public ZTask runAtEntityLater(Object entity, Runnable task, long delayTicks) {
+        return runGlobalLater(task, delayTicks);
+    }
+
+    @Override
+    public ZTask runAtEntityTimer(Object entity, Runnable task, long delayTicks, long periodTicks) {
+        return runGlobalTimer(task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public ZTask runAtLocation(Object location, Runnable task) {
+        return runGlobal(task);
+    }
+
+    @Override
+    public ZTask runAtLocationLater(Object location, Runnable task, long delayTicks) {
+        return runGlobalLater(task, delayTicks);
+    }
+
+    @Override
+    public ZTask runAtLocationTimer(Object location, Runnable task, long delayTicks, long periodTicks) {
+        return runGlobalTimer(task, delayTicks, periodTicks);
+    }
+
+    /**
+     * Velocity players and command sources are thread-safe - always true
+     */
+    @Override
+    public boolean isOwnedByCurrentThread(Object owner) {
+        return true;
+    }
+
+    private static ZTask wrap(ScheduledTask task) {
+        return new ZTask() {
+            @Override
+            public void cancel() {
+                task.cancel();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return task.status() == TaskStatus.CANCELLED;
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package me.thezombiepl.plugin.zcore.scheduler;
+
+/**
+ * Cross-platform scheduler: Folia region/entity schedulers, the Bukkit scheduler on Paper/Spigot,
+ * the Velocity scheduler, or the headless tick loop.
+ * <p>
+ * All delays and periods are in ticks (1 tick = 50 ms on platforms without a tick loop).
+ * Platform objects (entities, locations) are passed as {@code Object} so the API does not
+ * depend on Bukkit classes.
+ * </p>
+ * <ul>
+ *     <li><b>global</b> - global region on Folia, main thread on Paper/Spigot</li>
+ *     <li><b>async</b> - thread pool, never touches world state</li>
+ *     <li><b>entity</b> - thread owning the entity on Folia (follows it across regions);
+ *     non-entities (e.g. console) fall back to global</li>
+ *     <li><b>location</b> - thread owning the region of the location on Folia</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * ZScheduler scheduler = Schedulers.bukkit(plugin);
+ * scheduler.runAtEntity(player, () -> player.teleport(spawn));
+ * scheduler.runAsync(() -> storage.save(data));
+ * ZTask task = scheduler.runGlobalTimer(this::tick, 20L, 20L);
+ * }</pre>
+ */
+public interface ZScheduler {
+
+    ZTask runGlobal(Runnable task);
+
+    ZTask runGlobalLater(Runnable task, long delayTicks);
+
+    ZTask runGlobalTimer(Runnable task, long delayTicks, long periodTicks);
+
+    ZTask runAsync(Runnable task);
+
+    ZTask runAsyncLater(Runnable task, long delayTicks);
+
+    ZTask runAsyncTimer(Runnable task, long delayTicks, long periodTicks);
+
+    ZTask runAtEntity(Object entity, Runnable task);
+
+    ZTask runAtEntityLater(Object entity, Runnable task, long delayTicks);
+
+    ZTask runAtEntityTimer(Object entity, Runnable task, long delayTicks, long periodTicks);
+
+    ZTask runAtLocation(Object location, Runnable task);
+
+    ZTask runAtLocationLater(Object location, Runnable task, long delayTicks);
+
+    ZTask runAtLocationTimer(Object location, Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * @param owner Entity, location, or null for the global region / main thread
+     * @return true if the current thread may touch the owner's state directly
+     */
+    boolean isOwnedByCurrentThread(Object owner);
+
+    /**
+     * Runs the task on the owner's thread - immediately if already on it, otherwise on the next tick
+     *
+     * @param owner Entity (or any command sender), or null for global
+     */
+    default void executeFor(Object owner, Runnable task) {
+        if (isOwnedByCurrentThread(owner)) {
+            task.run();
+        } else if (owner == null) {
+            runGlobal(task);
+        } else {
+            runAtEntity(owner, task);
+        }
+    }
+}
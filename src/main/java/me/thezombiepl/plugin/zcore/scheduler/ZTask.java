@@ -0,0 +1,25 @@
+package me.thezombiepl.plugin.zcore.scheduler;
+
+/**
+ * Handle of a task scheduled through {@link ZScheduler}
+ */
+public interface ZTask {
+
+    void cancel();
+
+    boolean isCancelled();
+
+    /**
+     * Handle returned when a task could not be scheduled (e.g. the entity was already removed)
+     */
+    ZTask CANCELLED = new ZTask() {
+        @Override
+        public void cancel() {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return true;
+        }
+    };
+}
@@ -0,0 +1,84 @@
+package me.thezombiepl.plugin.zcore.sync;
+
+import me.thezombiepl.plugin.zcore.scheduler.Schedulers;
+import me.thezombiepl.plugin.zcore.scheduler.ZScheduler;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.messaging.PluginMessageListener;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Bukkit/Paper plugin messaging transport on the {@code zcore:sync} channel.
+ * The only peer is the proxy; outgoing messages ride on any online player's connection.
+ * <p>
+ * Payloads on this channel are trusted, so the backend must only be reachable through the proxy.
+ * </p>
+ */
+public class BukkitSyncTransport implements SyncTransport, PluginMessageListener, Listener {
+
+    public static final String CHANNEL = "zcore:sync";
+    public static final String PROXY = "proxy";
+
+    private final JavaPlugin plugin;
+    private final ZScheduler scheduler;
+    private volatile Receiver receiver;
+
+    public BukkitSyncTransport(JavaPlugin plugin) {
+        this.plugin = plugin;
+        this.scheduler = Schedulers.bukkit(plugin);
+        plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, CHANNEL);
+        plugin.getServer().getMessenger().registerIncomingPluginChannel(plugin, CHANNEL, this);
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    }
+
+    @Override
+    public Collection<String> targets() {
+        return Collections.singletonList(PROXY);
+    }
+
+    @Override
+    public boolean send(String target, byte[] payload) {
+        Iterator<? extends Player> players = Bukkit.getOnlinePlayers().iterator();
+        if (!players.hasNext()) return false;
+        players.next().sendPluginMessage(plugin, CHANNEL, payload);
+        return true;
+    }
+
+    @Override
+    public void setReceiver(Receiver receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void close() {
+        plugin.getServer().getMessenger().unregisterIncomingPluginChannel(plugin, CHANNEL, this);
+        plugin.getServer().getMessenger().unregisterOutgoingPluginChannel(plugin, CHANNEL);
+        HandlerList.unregisterAll(this);
+    }
+
+    @Override
+    public void onPluginMessageReceived(String channel, Player player, byte[] message) {
+        if (!CHANNEL.equals(channel)) return;
+        Receiver current = receiver;
+        if (current != null) {
+            current.receive(PROXY, message);
+        }
+    }
+
+    @EventHandler
+    public void onJoin(PlayerJoinEvent event) {
+        // Kanał musi zostać zarejestrowany na połączeniu zanim cokolwiek wyślemy
+        scheduler.runGlobalLater(() -> {
+            Receiver current = receiver;
+            if (current != null) current.connected(PROXY);
+        }, 20L);
+    }
+}
@@ -0,0 +1,86 @@
+package me.thezombiepl.plugin.zcore.sync;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory transport connecting one authority with any number of replicas in the same JVM.
+ * Delivery is synchronous; intended for tests and headless setups.
+ *
+ * <pre>{@code
+ * InMemorySyncTransport proxy = new InMemorySyncTransport("proxy");
+ * InMemorySyncTransport lobby = proxy.connect("lobby");
+ * SyncAuthority authority = new SyncAuthority(proxy);
+ * SyncReplica replica = new SyncReplica(lobby);
+ * }</pre>
+ */
+public class InMemorySyncTransport implements SyncTransport {
+
+    private final String name;
+    private final Map<String, InMemorySyncTransport> peers = new ConcurrentHashMap<>();
+    private volatile Receiver receiver;
+    private volatile boolean online = true;
+
+    public InMemorySyncTransport(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Creates a peer transport linked both ways with this one
+     */
+    public InMemorySyncTransport connect(String peerName) {
+        InMemorySyncTransport peer = new InMemorySyncTransport(peerName);
+        peers.put(peerName, peer);
+        peer.peers.put(name, this);
+        return peer;
+    }
+
+    /**
+     * Simulates the peer going offline (sends to it fail) or coming back (fires {@code connected})
+     */
+    public void setOnline(boolean online) {
+        this.online = online;
+        if (online) {
+            for (InMemorySyncTransport peer : peers.values()) {
+                Receiver peerReceiver = peer.receiver;
+                if (peerReceiver != null) peerReceiver.connected(name);
+                Receiver own = receiver;
+                if (own != null) own.connected(peer.name);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Collection<String> targets() {
+        return new ArrayList<>(peers.keySet());
+    }
+
+    @Override
+    public boolean send(String target, byte[] payload) {
+        InMemorySyncTransport peer = peers.get(target);
+        if (peer == null || !peer.online || !online) return false;
+        Receiver peerReceiver = peer.receiver;
+        if (peerReceiver == null) return false;
+        peerReceiver.receive(name, payload.clone());
+        return true;
+    }
+
+    @Override
+    public void setReceiver(Receiver receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void close() {
+        for (InMemorySyncTransport peer : peers.values()) {
+            peer.peers.remove(name);
+        }
+        peers.clear();
+    }
+}
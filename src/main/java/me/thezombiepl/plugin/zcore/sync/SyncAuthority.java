@@ -0,0 +1,191 @@
+package me.thezombiepl.plugin.zcore.sync;
+
+import me.thezombiepl.plugin.zcore.config.Snapshottable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Proxy-side authority that pushes config/message snapshots to backend servers.
+ * <p>
+ * The first push to a backend carries the full snapshot. After that only the changed
+ * and removed paths are sent, as long as the backend is known to hold the previous version;
+ * otherwise the full snapshot is sent again.
+ * </p>
+ *
+ * <pre>{@code
+ * SyncAuthority sync = ZCoreVelocity.getSyncAuthority();
+ * sync.track("myplugin:messages", messageManager);
+ * // after messageManager.reload(config):
+ * sync.publish("myplugin:messages");
+ * }</pre>
+ */
+public class SyncAuthority implements SyncTransport.Receiver {
+
+    private final SyncTransport transport;
+    private final Map<String, Snapshottable> sources = new ConcurrentHashMap<>();
+    private final Map<String, Snapshot> published = new ConcurrentHashMap<>();
+    // target -> document -> version held by that target
+    private final Map<String, Map<String, Long>> delivered = new ConcurrentHashMap<>();
+
+    public SyncAuthority(SyncTransport transport) {
+        this.transport = transport;
+        transport.setReceiver(this);
+    }
+
+    /**
+     * Starts distributing a document under the given network-wide id and pushes it immediately
+     */
+    public void track(String document, Snapshottable source) {
+        Objects.requireNonNull(document, "document");
+        Objects.requireNonNull(source, "source");
+        sources.put(document, source);
+        publish(document);
+    }
+
+    public void untrack(String document) {
+        sources.remove(document);
+        published.remove(document);
+        for (Map<String, Long> versions : delivered.values()) {
+            versions.remove(document);
+        }
+    }
+
+    /**
+     * Takes a fresh snapshot of the document and sends it (or its delta) to every backend.
+     * Does nothing if the content did not change since the last publish.
+     */
+    public synchronized void publish(String document) {
+        Snapshottable source = sources.get(document);
+        if (source == null) return;
+
+        Map<String, Object> values = source.snapshot();
+        Snapshot previous = published.get(document);
+        if (previous != null && previous.values.equals(values)) return;
+
+        Snapshot current = new Snapshot(previous == null ? System.currentTimeMillis() : previous.version + 1, values);
+        published.put(document, current);
+
+        byte[] full;
+        byte[] delta = null;
+        try {
+            full = SyncCodec.encodeFull(document, current.version, current.values);
+            if (previous != null) {
+                delta = encodeDelta(document, previous, current);
+            }
+        } catch (IOException e) {
+            System.err.println("[ZCore] Failed to encode sync snapshot: " + document);
+            e.printStackTrace();
+            return;
+        }
+
+        for (String target : transport.targets()) {
+            Long held = versionsOf(target).get(document);
+            boolean canDelta = delta != null && held != null && held == previous.version;
+            deliver(target, document, current.version, canDelta ? delta : full);
+        }
+    }
+
+    public void publishAll() {
+        for (String document : sources.keySet()) {
+            publish(document);
+        }
+    }
+
+    @Override
+    public void receive(String source, byte[] payload) {
+        SyncCodec.SyncPacket packet;
+        try {
+            packet = SyncCodec.decode(payload);
+        } catch (IOException e) {
+            System.err.println("[ZCore] Invalid sync payload from " + source + ": " + e.getMessage());
+            return;
+        }
+        if (packet.type != SyncCodec.REQUEST_FULL) return;
+
+        if (packet.document.isEmpty()) {
+            for (String document : published.keySet()) {
+                sendFull(source, document);
+            }
+        } else {
+            sendFull(source, packet.document);
+        }
+    }
+
+    @Override
+    public void connected(String peer) {
+        Map<String, Long> held = versionsOf(peer);
+        for (Map.Entry<String, Snapshot> e : published.entrySet()) {
+            Long version = held.get(e.getKey());
+            if (version == null || version != e.getValue().version) {
+                sendFull(peer, e.getKey());
+            }
+        }
+    }
+
+    public void close() {
+        transport.close();
+    }
+
+    private synchronized void sendFull(String target, String document) {
+        Snapshot snapshot = published.get(document);
+        if (snapshot == null) return;
+        try {
+            deliver(target, document, snapshot.version, SyncCodec.encodeFull(document, snapshot.version, snapshot.values));
+        } catch (IOException e) {
+            System.err.println("[ZCore] Failed to encode sync snapshot: " + document);
+            e.printStackTrace();
+        }
+    }
+
+    private void deliver(String target, String document, long version, byte[] payload) {
+        if (transport.send(target, payload)) {
+            versionsOf(target).put(document, version);
+        } else {
+            // Not delivered - the next publish falls back to a full snapshot
+            versionsOf(target).remove(document);
+        }
+    }
+
+    private Map<String, Long> versionsOf(String target) {
+        Map<String, Long> versions = delivered.get(target);
+        if (versions == null) {
+            versions = new ConcurrentHashMap<>();
+            Map<String, Long> existing = delivered.putIfAbsent(target, versions);
+            if (existing != null) versions = existing;
+        }
+        return versions;
+    }
+
+    private static byte[] encodeDelta(String document, Snapshot previous, Snapshot current) throws IOException {
+        Map<String, Object> changed = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> e : current.values.entrySet()) {
+            if (!previous.values.containsKey(e.getKey())
+                    || !Objects.equals(previous.values.get(e.getKey()), e.getValue())) {
+                changed.put(e.getKey(), e.getValue());
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        for (String path : previous.values.keySet()) {
+            if (!current.values.containsKey(path)) {
+                removed.add(path);
+            }
+        }
+        return SyncCodec.encodeDelta(document, previous.version, current.version, changed, removed);
+    }
+
+    private static final class Snapshot {
+        final long version;
+        final Map<String, Object> values;
+
+        Snapshot(long version, Map<String, Object> values) {
+            this.version = version;
+            this.values = new LinkedHashMap<>(values);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package me.thezombiepl.plugin.zcore.sync;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary wire format for snapshot synchronization.
+ * <p>
+ * Layout: one uncompressed protocol byte followed by a deflated body
+ * {@code [type][document][baseVersion][version][values...][removed...]}.
+ * </p>
+ * <p>
+ * Messages larger than a transport packet are sent by {@link #split(byte[], int)} as chunks
+ * {@code [CHUNK][message id][index][count][data]} and rebuilt by an {@link Assembler}.
+ * </p>
+ */
+final class SyncCodec {
+
+    static final byte PROTOCOL = 1;
+    static final byte CHUNK = 2;
+
+    private static final int CHUNK_HEADER = 1 + 4 + 2 + 2;
+    private static final int MAX_CHUNKS = Short.MAX_VALUE;
+    private static final AtomicInteger nextMessageId = new AtomicInteger();
+
+    static final byte FULL = 1;
+    static final byte DELTA = 2;
+    static final byte REQUEST_FULL = 3;
+
+    private static final byte T_NULL = 0;
+    private static final byte T_STRING = 1;
+    private static final byte T_INT = 2;
+    private static final byte T_LONG = 3;
+    private static final byte T_DOUBLE = 4;
+    private static final byte T_FLOAT = 5;
+    private static final byte T_BOOLEAN = 6;
+    private static final byte T_LIST = 7;
+    private static final byte T_MAP = 8;
+
+    private SyncCodec() {}
+
+    static byte[] encodeFull(String document, long version, Map<String, Object> values) throws IOException {
+        return encode(FULL, document, 0L, version, values, Collections.<String>emptySet());
+    }
+
+    static byte[] encodeDelta(String document, long baseVersion, long version,
+                              Map<String, Object> changed, Collection<String> removed) throws IOException {
+        return encode(DELTA, document, baseVersion, version, changed, removed);
+    }
+
+    /**
+     * @param document Document to resend, or empty string for every document
+     */
+    static byte[] encodeRequest(String document) throws IOException {
+        return encode(REQUEST_FULL, document, 0L, 0L, Collections.<String, Object>emptyMap(), Collections.<String>emptySet());
+    }
+
+    private static byte[] encode(byte type, String document, long baseVersion, long version,
+                                 Map<String, Object> values, Collection<String> removed) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        bytes.write(PROTOCOL);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeByte(type);
+            writeString(out, document);
+            out.writeLong(baseVersion);
+            out.writeLong(version);
+            out.writeInt(values.size());
+            for (Map.Entry<String, Object> e : values.entrySet()) {
+                writeString(out, e.getKey());
+                writeValue(out, e.getValue());
+            }
+            out.writeInt(removed.size());
+            for (String path : removed) {
+                writeString(out, path);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    static SyncPacket decode(byte[] payload) throws IOException {
+        if (payload.length == 0 || payload[0] != PROTOCOL) {
+            throw new IOException("Unsupported sync protocol: " + (payload.length == 0 ? "empty" : payload[0]));
+        }
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(
+                new ByteArrayInputStream(payload, 1, payload.length - 1)))) {
+            byte type = in.readByte();
+            String document = readString(in);
+            long baseVersion = in.readLong();
+            long version = in.readLong();
+
+            int count = in.readInt();
+            Map<String, Object> values = new LinkedHashMap<>(Math.max(16, count * 2));
+            for (int i = 0; i < count; i++) {
+                String path = readString(in);
+                values.put(path, readValue(in));
+            }
+
+            int removedCount = in.readInt();
+            Set<String> removed = new LinkedHashSet<>();
+            for (int i = 0; i < removedCount; i++) {
+                removed.add(readString(in));
+            }
+            return new SyncPacket(type, document, baseVersion, version, values, removed);
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(T_NULL);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(T_INT);
+            out.writeInt(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            out.writeByte(T_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(T_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(T_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(T_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            out.writeByte(T_LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(T_MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> e : map.entrySet()) {
+                writeValue(out, e.getKey());
+                writeValue(out, e.getValue());
+            }
+        } else {
+            out.writeByte(T_STRING);
+            writeString(out, value.toString());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case T_NULL:
+                return null;
+            case T_STRING:
+                return readString(in);
+            case T_INT:
+                return in.readInt();
+            case T_LONG:
+                return in.readLong();
+            case T_DOUBLE:
+                return in.readDouble();
+            case T_FLOAT:
+                return in.readFloat();
+            case T_BOOLEAN:
+                return in.readBoolean();
+            case T_LIST: {
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            }
+            case T_MAP: {
+                int size = in.readInt();
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(readValue(in), readValue(in));
+                }
+                return map;
+            }
+            default:
+                throw new IOException("Unknown value tag: " + tag);
+        }
+    }
+
+    /**
+     * Splits an encoded message into packets of at most {@code maxPacket} bytes
+     * (a message that already fits is returned as is)
+     */
+    static List<byte[]> split(byte[] payload, int maxPacket) throws IOException {
+        if (payload.length <= maxPacket) return Collections.singletonList(payload);
+        int chunkData = maxPacket - CHUNK_HEADER;
+        int count = (payload.length + chunkData - 1) / chunkData;
+        if (count > MAX_CHUNKS) throw new IOException("Sync message too large: " + payload.length + " bytes");
+
+        int id = nextMessageId.incrementAndGet();
+        List<byte[]> chunks = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            int offset = index * chunkData;
+            int length = Math.min(chunkData, payload.length - offset);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(CHUNK_HEADER + length);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(CHUNK);
+            out.writeInt(id);
+            out.writeShort(index);
+            out.writeShort(count);
+            out.write(payload, offset, length);
+            chunks.add(bytes.toByteArray());
+        }
+        return chunks;
+    }
+
+    /**
+     * Rebuilds chunked messages of one receiver. Not thread-safe - used under the receiver's lock.
+     */
+    static final class Assembler {
+
+        // Niedokończone wiadomości (np. zerwane w połowie) - najstarsza jest wyrzucana
+        private static final int MAX_PENDING = 4;
+
+        private final Map<Integer, byte[][]> pending = new LinkedHashMap<>();
+
+        /**
+         * @return The complete message, or null while chunks are missing
+         */
+        byte[] accept(byte[] packet) throws IOException {
+            if (packet.length == 0 || packet[0] != CHUNK) return packet;
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(packet, 1, packet.length - 1));
+            int id = in.readInt();
+            int index = in.readShort();
+            int count = in.readShort();
+            if (count <= 0 || index < 0 || index >= count) throw new IOException("Invalid sync chunk " + index + "/" + count);
+
+            byte[][] parts = pending.get(id);
+            if (parts == null) {
+                if (pending.size() >= MAX_PENDING) {
+                    Iterator<Integer> oldest = pending.keySet().iterator();
+                    oldest.next();
+                    oldest.remove();
+                }
+                parts = new byte[count][];
+                pending.put(id, parts);
+            } else if (parts.length != count) {
+                pending.remove(id);
+                throw new IOException("Inconsistent sync chunk count for message " + id);
+            }
+            parts[index] = Arrays.copyOfRange(packet, CHUNK_HEADER, packet.length);
+
+            int total = 0;
+            for (byte[] part : parts) {
+                if (part == null) return null;
+                total += part.length;
+            }
+            pending.remove(id);
+            byte[] message = new byte[total];
+            int offset = 0;
+            for (byte[] part : parts) {
+                System.arraycopy(part, 0, message, offset, part.length);
+                offset += part.length;
+            }
+            return message;
+        }
+    }
+
+    // writeUTF is limited to 64 KiB, long message lists can exceed it
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decoded sync message
+     */
+    static final class SyncPacket {
+        final byte type;
+        final String document;
+        final long baseVersion;
+        final long version;
+        final Map<String, Object> values;
+        final Set<String> removed;
+
+        SyncPacket(byte type, String document, long baseVersion, long version,
+                   Map<String, Object> values, Set<String> removed) {
+            this.type = type;
+            this.document = document;
+            this.baseVersion = baseVersion;
+            this.version = version;
+            this.values = values;
+            this.removed = removed;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package me.thezombiepl.plugin.zcore.sync;
+
+import me.thezombiepl.plugin.zcore.config.Snapshottable;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Backend-side receiver of snapshots pushed by a {@link SyncAuthority}.
+ * <p>
+ * Bound documents are replaced through {@link Snapshottable#applySnapshot(Map)}, so a single
+ * edit on the proxy reloads every backend without reading or parsing files locally.
+ * A delta that does not match the locally held version triggers a request for the full snapshot.
+ * </p>
+ *
+ * <pre>{@code
+ * ZCoreBukkit.getSyncReplica().bind("myplugin:messages", messageManager);
+ * }</pre>
+ */
+public class SyncReplica implements SyncTransport.Receiver {
+
+    private final SyncTransport transport;
+    private final Map<String, Snapshottable> bindings = new ConcurrentHashMap<>();
+    private final Map<String, Snapshot> documents = new ConcurrentHashMap<>();
+    private final SyncCodec.Assembler assembler = new SyncCodec.Assembler();
+
+    public SyncReplica(SyncTransport transport) {
+        this.transport = transport;
+        transport.setReceiver(this);
+    }
+
+    /**
+     * Binds a local document to a network-wide id. If a snapshot for this id
+     * was already received, it is applied immediately.
+     */
+    public void bind(String document, Snapshottable target) {
+        Objects.requireNonNull(document, "document");
+        Objects.requireNonNull(target, "target");
+        bindings.put(document, target);
+
+        Snapshot snapshot = documents.get(document);
+        if (snapshot != null) {
+            apply(document, snapshot.values);
+        } else {
+            requestFull(document);
+        }
+    }
+
+    public void unbind(String document) {
+        bindings.remove(document);
+    }
+
+    /**
+     * Version of the snapshot held for the document, or -1 if none was received yet
+     */
+    public long getVersion(String document) {
+        Snapshot snapshot = documents.get(document);
+        return snapshot == null ? -1L : snapshot.version;
+    }
+
+    @Override
+    public synchronized void receive(String source, byte[] payload) {
+        SyncCodec.SyncPacket packet;
+        try {
+            byte[] message = assembler.accept(payload);
+            if (message == null) return;
+            packet = SyncCodec.decode(message);
+        } catch (IOException e) {
+            System.err.println("[ZCore] Invalid sync payload from " + source + ": " + e.getMessage());
+            return;
+        }
+
+        switch (packet.type) {
+            case SyncCodec.FULL:
+                store(packet.document, new Snapshot(packet.version, packet.values));
+                break;
+            case SyncCodec.DELTA: {
+                Snapshot current = documents.get(packet.document);
+                if (current == null || current.version != packet.baseVersion) {
+                    requestFull(packet.document);
+                    return;
+                }
+                Map<String, Object> merged = new LinkedHashMap<>(current.values);
+                merged.putAll(packet.values);
+                for (String path : packet.removed) {
+                    merged.remove(path);
+                }
+                store(packet.document, new Snapshot(packet.version, merged));
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void connected(String peer) {
+        for (String document : bindings.keySet()) {
+            if (!documents.containsKey(document)) {
+                requestFull(document);
+            }
+        }
+    }
+
+    public void close() {
+        transport.close();
+    }
+
+    private void store(String document, Snapshot snapshot) {
+        documents.put(document, snapshot);
+        apply(document, snapshot.values);
+    }
+
+    private void apply(String document, Map<String, Object> values) {
+        Snapshottable target = bindings.get(document);
+        if (target == null) return;
+        try {
+            target.applySnapshot(values);
+        } catch (IOException e) {
+            System.err.println("[ZCore] Failed to apply sync snapshot: " + document);
+            e.printStackTrace();
+        }
+    }
+
+    private void requestFull(String document) {
+        try {
+            for (String target : transport.targets()) {
+                transport.send(target, SyncCodec.encodeRequest(document));
+            }
+        } catch (IOException e) {
+            System.err.println("[ZCore] Failed to encode sync request: " + document);
+        }
+    }
+
+    private static final class Snapshot {
+        final long version;
+        final Map<String, Object> values;
+
+        Snapshot(long version, Map<String, Object> values) {
+            this.version = version;
+            this.values = Collections.unmodifiableMap(values);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package me.thezombiepl.plugin.zcore.sync;
+
+import java.util.Collection;
+
+/**
+ * Pluggable byte transport used by {@link SyncAuthority} and {@link SyncReplica}.
+ * Implementations exist for Velocity/Bukkit plugin messaging and for in-memory testing.
+ */
+public interface SyncTransport {
+
+    /**
+     * Names of the peers this transport can currently address
+     * (backend server names on the proxy, a single proxy peer on a backend).
+     */
+    Collection<String> targets();
+
+    /**
+     * Sends a payload to a single peer.
+     *
+     * @return true if the payload was handed to the peer, false if it could not be delivered
+     */
+    boolean send(String target, byte[] payload);
+
+    /**
+     * Sets the receiver for incoming payloads and connection notifications
+     */
+    void setReceiver(Receiver receiver);
+
+    /**
+     * Releases channels and listeners held by this transport
+     */
+    default void close() {
+    }
+
+    interface Receiver {
+
+        void receive(String source, byte[] payload);
+
+        /**
+         * Called when a peer becomes reachable (e.g. a player connected to a backend)
+         */
+        default void connected(String peer) {
+        }
+    }
+}
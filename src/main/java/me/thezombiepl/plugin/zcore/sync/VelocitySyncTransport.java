@@ -0,0 +1,100 @@
+package me.thezombiepl.plugin.zcore.sync;
+
+import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.connection.PluginMessageEvent;
+import com.velocitypowered.api.event.player.ServerPostConnectEvent;
+import com.velocitypowered.api.proxy.ProxyServer;
+import com.velocitypowered.api.proxy.ServerConnection;
+import com.velocitypowered.api.proxy.messages.MinecraftChannelIdentifier;
+import com.velocitypowered.api.proxy.server.RegisteredServer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Velocity plugin messaging transport on the {@code zcore:sync} channel.
+ * Targets are registered backend servers; a server without players cannot receive
+ * messages, so it is brought up to date when the next player connects to it.
+ * Payloads larger than one plugin message are sent as several chunks.
+ */
+public class VelocitySyncTransport implements SyncTransport {
+
+    public static final MinecraftChannelIdentifier CHANNEL = MinecraftChannelIdentifier.create("zcore", "sync");
+
+    // Maksymalny rozmiar pakietu plugin message wysyłanego do backendu (większe snapshoty idą w kawałkach)
+    private static final int MAX_PAYLOAD = 32766;
+
+    private final Object plugin;
+    private final ProxyServer proxy;
+    private volatile Receiver receiver;
+
+    public VelocitySyncTransport(Object plugin, ProxyServer proxy) {
+        this.plugin = plugin;
+        this.proxy = proxy;
+        proxy.getChannelRegistrar().register(CHANNEL);
+        proxy.getEventManager().register(plugin, this);
+    }
+
+    @Override
+    public Collection<String> targets() {
+        List<String> names = new ArrayList<>();
+        for (RegisteredServer server : proxy.getAllServers()) {
+            names.add(server.getServerInfo().getName());
+        }
+        return names;
+    }
+
+    @Override
+    public boolean send(String target, byte[] payload) {
+        Optional<RegisteredServer> server = proxy.getServer(target);
+        if (!server.isPresent()) return false;
+        List<byte[]> packets;
+        try {
+            packets = SyncCodec.split(payload, MAX_PAYLOAD);
+        } catch (IOException e) {
+            System.err.println("[ZCore] Sync payload for " + target + " cannot be sent: " + e.getMessage());
+            return false;
+        }
+        for (byte[] packet : packets) {
+            // Brak gracza na serwerze - reszta i tak by nie doszła, pełny snapshot pójdzie przy następnym połączeniu
+            if (!server.get().sendPluginMessage(CHANNEL, packet)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void setReceiver(Receiver receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void close() {
+        proxy.getEventManager().unregisterListener(plugin, this);
+        proxy.getChannelRegistrar().unregister(CHANNEL);
+    }
+
+    @Subscribe
+    public void onPluginMessage(PluginMessageEvent event) {
+        if (!CHANNEL.equals(event.getIdentifier())) return;
+
+        // Nigdy nie przekazujemy kanału dalej - klient nie może wstrzyknąć snapshotu na backend
+        event.setResult(PluginMessageEvent.ForwardResult.handled());
+
+        Receiver current = receiver;
+        if (current != null && event.getSource() instanceof ServerConnection) {
+            ServerConnection connection = (ServerConnection) event.getSource();
+            current.receive(connection.getServerInfo().getName(), event.getData());
+        }
+    }
+
+    @Subscribe
+    public void onServerPostConnect(ServerPostConnectEvent event) {
+        Receiver current = receiver;
+        if (current == null) return;
+        event.getPlayer().getCurrentServer().ifPresent(connection ->
+                current.connected(connection.getServerInfo().getName()));
+    }
+}
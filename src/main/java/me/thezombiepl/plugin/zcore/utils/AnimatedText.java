@@ -0,0 +1,233 @@
+package me.thezombiepl.plugin.zcore.utils;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Animowany gradient / tęcza z klatkami policzonymi z góry.
+ * <p>
+ * Szablon jest parsowany raz, a pierścień N klatek budowany przy tworzeniu - pobranie klatki
+ * dla bieżącego ticku to odczyt z tablicy zamiast pełnego parsowania MiniMessage na gracza na tick.
+ * Tekst legacy (§) każdej klatki jest tworzony leniwie przy pierwszym użyciu.
+ * </p>
+ * <p>
+ * Zestawy klatek z {@link #gradient(String, int, TextColor...)} i {@link #rainbow(String, int)}
+ * są współdzielone przez wszystkich odbiorców i usuwane, gdy nikt ich nie używał przez {@link #IDLE_MILLIS}.
+ * Przegląd nieużywanych zestawów wykonuje się przy pobieraniu klatek i tworzeniu nowych (najwyżej raz na minutę).
+ * </p>
+ *
+ * <pre>{@code
+ * AnimatedText title = AnimatedText.gradient("&lMY SERVER", 40, NamedTextColor.GOLD, NamedTextColor.RED);
+ *
+ * // co tick, dla każdego gracza
+ * player.sendActionBar(title.frame(tick));
+ * }</pre>
+ */
+public final class AnimatedText {
+
+    /** Czas bez użycia, po którym współdzielony zestaw klatek jest usuwany */
+    public static final long IDLE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final long SWEEP_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final Map<String, AnimatedText> shared = new ConcurrentHashMap<>();
+    private static final AtomicLong lastSweep = new AtomicLong(System.currentTimeMillis());
+
+    private final Component[] frames;
+    private final AtomicReferenceArray<String> legacy;
+    private volatile long lastUsed = System.currentTimeMillis();
+
+    private AnimatedText(Component[] frames) {
+        this.frames = frames;
+        this.legacy = new AtomicReferenceArray<>(frames.length);
+    }
+
+    /**
+     * Współdzielony gradient przesuwający się przez tekst (paleta zapętlona, bez skoku koloru)
+     *
+     * @param text Tekst (może zawierać formatowanie, np. &amp;l; kolory są nadpisywane)
+     * @param frameCount Liczba klatek pełnego cyklu
+     * @param palette Co najmniej jeden kolor
+     */
+    public static AnimatedText gradient(String text, int frameCount, TextColor... palette) {
+        if (palette.length == 0) throw new IllegalArgumentException("palette is empty");
+        StringBuilder key = new StringBuilder("g|").append(frameCount);
+        for (TextColor color : palette) key.append('|').append(color.value());
+        key.append('|').append(text);
+        return shared(key.toString(), () -> create(text, frameCount, position -> gradientColor(palette, position)));
+    }
+
+    /**
+     * Współdzielona tęcza przesuwająca się przez tekst
+     */
+    public static AnimatedText rainbow(String text, int frameCount) {
+        return shared("r|" + frameCount + '|' + text, () -> create(text, frameCount, AnimatedText::rainbowColor));
+    }
+
+    /**
+     * Klatka dla podanego ticku (czas stały)
+     */
+    public Component frame(long tick) {
+        touch();
+        return frames[index(tick)];
+    }
+
+    /**
+     * Klatka jako tekst legacy (§) - np. dla scoreboardów na starszych wersjach
+     */
+    public String legacyFrame(long tick) {
+        touch();
+        int index = index(tick);
+        String cached = legacy.get(index);
+        if (cached == null) {
+            cached = ColorUtil.serialize(frames[index]);
+            legacy.set(index, cached);
+        }
+        return cached;
+    }
+
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    /**
+     * Usuwa współdzielone zestawy klatek nieużywane dłużej niż {@link #IDLE_MILLIS}
+     */
+    public static void evictUnused() {
+        long now = System.currentTimeMillis();
+        lastSweep.set(now);
+        Iterator<AnimatedText> it = shared.values().iterator();
+        while (it.hasNext()) {
+            if (now - it.next().lastUsed > IDLE_MILLIS) it.remove();
+        }
+    }
+
+    public static int getSharedCount() {
+        return shared.size();
+    }
+
+    private int index(long tick) {
+        return (int) Math.floorMod(tick, (long) frames.length);
+    }
+
+    // Zapis tylko raz na sekundę - frame() jest wołane przez wiele wątków co tick
+    private void touch() {
+        long now = System.currentTimeMillis();
+        if (now - lastUsed > 1000L) {
+            lastUsed = now;
+            sweepIfDue(now);
+        }
+    }
+
+    // Przegląd także bez tworzenia nowych zestawów - tylko jeden wątek wygrywa CAS
+    private static void sweepIfDue(long now) {
+        long last = lastSweep.get();
+        if (now - last > SWEEP_INTERVAL_MILLIS && lastSweep.compareAndSet(last, now)) evictUnused();
+    }
+
+    private static AnimatedText shared(String key, Supplier<AnimatedText> factory) {
+        sweepIfDue(System.currentTimeMillis());
+        AnimatedText text = shared.computeIfAbsent(key, k -> factory.get());
+        text.touch();
+        return text;
+    }
+
+    private static AnimatedText create(String text, int frameCount, ColorFunction colors) {
+        if (frameCount < 1) throw new IllegalArgumentException("frameCount must be >= 1");
+
+        // Parsowanie raz: znaki + styl bez koloru
+        List<TextRuns.Run> runs = TextRuns.flatten(ColorUtil.colorize(text));
+        int visible = 0;
+        for (TextRuns.Run run : runs) {
+            String content = run.getText();
+            for (int i = 0; i < content.length(); i++) {
+                if (content.charAt(i) != '\n') visible++;
+            }
+        }
+
+        Component[] frames = new Component[frameCount];
+        for (int f = 0; f < frameCount; f++) {
+            double phase = (double) f / frameCount;
+            TextComponent.Builder builder = Component.text();
+            int position = 0;
+            for (TextRuns.Run run : runs) {
+                String content = run.getText();
+                Style base = run.getStyle().color(null);
+                StringBuilder piece = new StringBuilder();
+                TextColor pieceColor = null;
+                for (int i = 0; i < content.length(); i++) {
+                    char c = content.charAt(i);
+                    TextColor color = pieceColor;
+                    if (c != '\n') {
+                        double at = visible == 0 ? 0 : (double) position / visible;
+                        color = colors.at(fraction(at - phase));
+                        position++;
+                    }
+                    if (pieceColor != null && !color.equals(pieceColor)) {
+                        builder.append(Component.text(piece.toString(), base.color(pieceColor)));
+                        piece.setLength(0);
+                    }
+                    pieceColor = color;
+                    piece.append(c);
+                }
+                if (piece.length() > 0) {
+                    builder.append(Component.text(piece.toString(), base.color(pieceColor)));
+                }
+            }
+            frames[f] = builder.build();
+        }
+        return new AnimatedText(frames);
+    }
+
+    private static double fraction(double value) {
+        return value - Math.floor(value);
+    }
+
+    // Paleta traktowana jako pierścień: ostatni kolor przechodzi płynnie w pierwszy
+    private static TextColor gradientColor(TextColor[] palette, double position) {
+        if (palette.length == 1) return palette[0];
+        double scaled = position * palette.length;
+        int from = (int) scaled % palette.length;
+        int to = (from + 1) % palette.length;
+        double t = scaled - Math.floor(scaled);
+        TextColor a = palette[from];
+        TextColor b = palette[to];
+        return TextColor.color(
+                (int) Math.round(a.red() + (b.red() - a.red()) * t),
+                (int) Math.round(a.green() + (b.green() - a.green()) * t),
+                (int) Math.round(a.blue() + (b.blue() - a.blue()) * t));
+    }
+
+    // HSV (pełne nasycenie i jasność) → RGB
+    private static TextColor rainbowColor(double hue) {
+        double h = hue * 6.0;
+        int sector = (int) Math.floor(h) % 6;
+        double f = h - Math.floor(h);
+        int up = (int) Math.round(255 * f);
+        int down = 255 - up;
+        switch (sector) {
+            case 0: return TextColor.color(255, up, 0);
+            case 1: return TextColor.color(down, 255, 0);
+            case 2: return TextColor.color(0, 255, up);
+            case 3: return TextColor.color(0, down, 255);
+            case 4: return TextColor.color(up, 0, 255);
+            default: return TextColor.color(255, 0, down);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ColorFunction {
+        TextColor at(double position);
+    }
+}
@@ -0,0 +1,42 @@
+package me.thezombiepl.plugin.zcore.utils;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Licznik trafień i chybień cache, bezpieczny dla wielu wątków.
+ */
+public final class CacheStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Odsetek trafień w zakresie 0.0 - 1.0 (0.0 gdy brak odwołań)
+     */
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    public void reset() {
+        hits.reset();
+        misses.reset();
+    }
+}
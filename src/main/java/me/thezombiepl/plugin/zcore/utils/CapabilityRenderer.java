@@ -0,0 +1,133 @@
+package me.thezombiepl.plugin.zcore.utils;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Renderowanie wiadomości pod klasę możliwości odbiorcy, z cache wyników.
+ * <p>
+ * Wynik jest zapamiętywany per (instancja wiadomości, {@link ClientCapability}), więc wiadomość wysłana
+ * do 500 graczy z trzech generacji klientów jest renderowana najwyżej trzy razy. Cache porównuje
+ * wiadomości przez == (bez hashowania całego drzewa) i nie trzyma ich przy życiu.
+ * Starsi klienci dostają kolory dopasowane przez {@link LegacyColors} zamiast zgrubnej konwersji po stronie proxy.
+ * </p>
+ */
+public final class CapabilityRenderer {
+
+    // Klucze są słabe; limit chroni tylko przed falą jednorazowych wiadomości między cyklami GC
+    private static final int MAX_ENTRIES = 4096;
+
+    // Wynik identyczny z wiadomością - nie trzymamy silnej referencji do klucza w wartości
+    private static final Object SAME = new Object();
+
+    private static final LegacyComponentSerializer HEX_SERIALIZER = LegacyComponentSerializer.builder()
+            .character('§')
+            .hexColors()
+            .useUnusualXRepeatedCharacterHexFormat()
+            .build();
+
+    private static final WeakIdentityCache<Component, Rendered> cache = new WeakIdentityCache<>(MAX_ENTRIES);
+    private static final CacheStats stats = new CacheStats();
+
+    private CapabilityRenderer() {}
+
+    /**
+     * Zwraca wiadomość dostosowaną do klienta (MODERN bez zmian).
+     */
+    public static Component render(Component message, ClientCapability capability) {
+        if (message == null || capability == ClientCapability.MODERN) return message;
+        Rendered rendered = entry(message);
+        int index = capability.ordinal();
+        Object cached = rendered.components[index];
+        if (cached != null) {
+            stats.hit();
+            return cached == SAME ? message : (Component) cached;
+        }
+        stats.miss();
+        Component result = adapt(message, capability);
+        rendered.components[index] = result == message ? SAME : result;
+        return result;
+    }
+
+    /**
+     * Serializuje wiadomość do tekstu z kodami § dla klienta (HEX tylko dla MODERN).
+     */
+    public static String serialize(Component message, ClientCapability capability) {
+        if (message == null) return "";
+        Rendered rendered = entry(message);
+        int index = capability.ordinal();
+        String result = rendered.strings[index];
+        if (result != null) {
+            stats.hit();
+            return result;
+        }
+        stats.miss();
+        result = capability.supportsHexColors()
+                ? HEX_SERIALIZER.serialize(message)
+                : LegacyComponentSerializer.legacySection().serialize(render(message, capability));
+        rendered.strings[index] = result;
+        return result;
+    }
+
+    public static CacheStats getCacheStats() {
+        return stats;
+    }
+
+    public static int getCacheSize() {
+        return cache.size();
+    }
+
+    public static void clearCache() {
+        cache.clear();
+    }
+
+    private static Rendered entry(Component message) {
+        Rendered rendered = cache.get(message);
+        if (rendered == null) {
+            // Wyścig dwóch wątków najwyżej renderuje wiadomość dwukrotnie (ten sam wynik)
+            rendered = new Rendered();
+            cache.put(message, rendered);
+        }
+        return rendered;
+    }
+
+    private static Component adapt(Component message, ClientCapability capability) {
+        Component stripped = strip(message, capability);
+        return capability.supportsHexColors() ? stripped : LegacyColors.downsample(stripped);
+    }
+
+    // Usuwa fonty i/lub zdarzenia nieobsługiwane przez klienta
+    private static Component strip(Component component, ClientCapability capability) {
+        Style style = component.style();
+        Style.Builder builder = null;
+        if (!capability.supportsFonts() && style.font() != null) {
+            builder = style.toBuilder().font(null);
+        }
+        if (!capability.supportsEvents()
+                && (style.clickEvent() != null || style.hoverEvent() != null || style.insertion() != null)) {
+            builder = (builder != null ? builder : style.toBuilder()).clickEvent(null).hoverEvent(null).insertion(null);
+        }
+        Component result = builder != null ? component.style(builder.build()) : component;
+
+        List<Component> children = component.children();
+        if (children.isEmpty()) return result;
+        List<Component> mapped = new ArrayList<>(children.size());
+        boolean changed = false;
+        for (Component child : children) {
+            Component converted = strip(child, capability);
+            if (converted != child) changed = true;
+            mapped.add(converted);
+        }
+        return changed ? result.children(mapped) : result;
+    }
+
+    private static final class Rendered {
+        // Indeksowane ClientCapability.ordinal(); wyścigi są nieszkodliwe (ten sam wynik)
+        final Object[] components = new Object[ClientCapability.values().length];
+        final String[] strings = new String[ClientCapability.values().length];
+    }
+}
@@ -0,0 +1,105 @@
+package me.thezombiepl.plugin.zcore.utils;
+
+import java.lang.reflect.Method;
+import java.util.UUID;
+
+/**
+ * Klasa możliwości klienta, dla której renderowany jest tekst.
+ * <p>
+ * Na Velocity (i na Paperze z ViaVersion) na jednej instancji grają klienci od 1.8 do 1.21,
+ * więc kolory HEX, fonty i zdarzenia hover/click dobierane są per odbiorca, a nie globalnie.
+ * </p>
+ */
+public enum ClientCapability {
+
+    /** 1.16+: kolory HEX, fonty, hover/click */
+    MODERN(true, true, true),
+    /** 1.8 - 1.15: 16 kolorów, hover/click, bez fontów */
+    LEGACY(false, false, true),
+    /** Tekst bez zdarzeń (konsola, wysyłka jako String): 16 kolorów, bez fontów i hover/click */
+    TEXT_ONLY(false, false, false);
+
+    /** Numer protokołu Minecraft 1.16 (pierwsza wersja z kolorami HEX) */
+    public static final int PROTOCOL_1_16 = 735;
+
+    private static final Method VIA_GET_API;
+    private static final Method VIA_GET_PLAYER_VERSION;
+
+    static {
+        Method getApi = null;
+        Method getPlayerVersion = null;
+        try {
+            Class<?> via = Class.forName("com.viaversion.viaversion.api.Via");
+            getApi = via.getMethod("getAPI");
+            getPlayerVersion = Class.forName("com.viaversion.viaversion.api.ViaAPI").getMethod("getPlayerVersion", UUID.class);
+        } catch (Exception ignored) {
+            // Brak ViaVersion - wszyscy klienci mają wersję serwera
+        }
+        VIA_GET_API = getApi;
+        VIA_GET_PLAYER_VERSION = getPlayerVersion;
+    }
+
+    private final boolean hexColors;
+    private final boolean fonts;
+    private final boolean events;
+
+    ClientCapability(boolean hexColors, boolean fonts, boolean events) {
+        this.hexColors = hexColors;
+        this.fonts = fonts;
+        this.events = events;
+    }
+
+    public boolean supportsHexColors() {
+        return hexColors;
+    }
+
+    public boolean supportsFonts() {
+        return fonts;
+    }
+
+    public boolean supportsEvents() {
+        return events;
+    }
+
+    /**
+     * Słabsza z dwóch klas możliwości - np. klient 1.16+ przez ViaVersion na serwerze 1.12
+     * dostaje tylko to, co potrafi przekazać serwer.
+     *
+     * @param limit Klasa możliwości, której wynik nie może przekroczyć
+     */
+    public ClientCapability cappedAt(ClientCapability limit) {
+        return ordinal() >= limit.ordinal() ? this : limit;
+    }
+
+    /**
+     * Klasa możliwości dla numeru protokołu klienta.
+     *
+     * @param protocol Numer protokołu (np. z Velocity lub ViaVersion), wartość &lt; 0 = nieznany
+     * @return MODERN dla 1.16+ lub nieznanego protokołu, LEGACY dla starszych
+     */
+    public static ClientCapability fromProtocol(int protocol) {
+        return protocol < 0 || protocol >= PROTOCOL_1_16 ? MODERN : LEGACY;
+    }
+
+    /**
+     * Klasa możliwości samego serwera (bez ViaVersion wszyscy klienci mają jego wersję).
+     */
+    public static ClientCapability server() {
+        return ColorUtil.isHexSupported() ? MODERN : LEGACY;
+    }
+
+    /**
+     * Wersja protokołu gracza według ViaVersion.
+     *
+     * @param uuid UUID gracza
+     * @return Numer protokołu lub -1, gdy ViaVersion nie jest zainstalowany
+     */
+    public static int viaVersionProtocol(UUID uuid) {
+        if (VIA_GET_PLAYER_VERSION == null) return -1;
+        try {
+            return (Integer) VIA_GET_PLAYER_VERSION.invoke(VIA_GET_API.invoke(null), uuid);
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package me.thezombiepl.plugin.zcore.utils;
 
+import me.thezombiepl.plugin.zcore.profiling.Profiler;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Narzędzie do kolorowania tekstu z wsparciem dla wielu wersji Minecraft.
  * Automatycznie wykrywa czy serwer wspiera kolory HEX (1.16+) i dostosowuje się.
@@ -12,6 +17,12 @@ public class ColorUtil {
     
     private static final MiniMessage miniMessage = MiniMessage.miniMessage();
     private static final LegacyComponentSerializer serializer;
+    private static final boolean hexSupported;
+
+    // Ten sam zbudowany Component (prefiks, wiadomość z cache, linia lore) jest wysyłany wielokrotnie
+    private static final int SERIALIZE_CACHE_SIZE = 4096;
+    private static final WeakIdentityCache<Component, String> serializeCache = new WeakIdentityCache<>(SERIALIZE_CACHE_SIZE);
+    private static final CacheStats serializeStats = new CacheStats();
 
     static {
         // Sprawdzamy, czy serwer wspiera HEX (wersja 1.16+)
@@ -34,8 +45,19 @@ public class ColorUtil {
                     .build();
         } else {
             // DLA 1.8 - 1.15: Konwertujemy RGB na najbliższy zwykły kolor
+            // (kolory są wcześniej zamieniane przez LegacyColors, serializer nie musi ich szukać)
             serializer = LegacyComponentSerializer.legacySection();
         }
+        hexSupported = supportsHex;
+    }
+
+    /**
+     * Czy serwer wspiera kolory HEX (1.16+).
+     *
+     * @return true na 1.16+, false na 1.8 - 1.15
+     */
+    public static boolean isHexSupported() {
+        return hexSupported;
     }
 
     /**
@@ -47,6 +69,7 @@ public class ColorUtil {
      */
     public static Component colorize(String message) {
         if (message == null) return null;
+        Profiler.TextSpan span = Profiler.colorize();
         // Najpierw zamieniamy stare & na §, żeby legacySerializer to zrozumiał
         String fixedMessage = message.replace('§', '&');
         
@@ -56,7 +79,27 @@ public class ColorUtil {
         // Serializujemy do MiniMessage, czyścimy escape'y i deserializujemy ponownie
         // To pozwala łączyć &c z <red> w jednej wiadomości
         String minimessage = miniMessage.serialize(legacy).replace("\\", "");
-        return miniMessage.deserialize(minimessage);
+        Component result = miniMessage.deserialize(minimessage);
+        span.end(message.length(), false);
+        return result;
+    }
+
+    /**
+     * Koloruje wiele linii i łączy je w jeden Component rozdzielony znakami nowej linii.
+     * <p>
+     * Pozwala wysłać np. stronę pomocy jednym wywołaniem zamiast osobnego pakietu na linię.
+     * Linie null są pomijane.
+     * </p>
+     *
+     * @param lines Linie do pokolorowania
+     * @return Jeden Component zawierający wszystkie linie
+     */
+    public static Component colorizeLines(Iterable<String> lines) {
+        List<Component> components = new ArrayList<>();
+        for (String line : lines) {
+            if (line != null) components.add(colorize(line));
+        }
+        return Component.join(JoinConfiguration.newlines(), components);
     }
 
     /**
@@ -64,7 +107,12 @@ public class ColorUtil {
      * <p>
      * Na Minecraft 1.16+ zwraca tekst z kodami HEX (format §x§r§r§g§g§b§b).
      * <br>
-     * Na Minecraft 1.8-1.15 zwraca tekst ze zwykłymi kolorami (§c, §a, itp).
+     * Na Minecraft 1.8-1.15 zwraca tekst ze zwykłymi kolorami (§c, §a, itp) - kolory RGB są
+     * zamieniane przez tablicę {@link LegacyColors}, a sąsiednie fragmenty w tym samym kolorze scalane.
+     * </p>
+     * <p>
+     * Wynik jest zapamiętywany per instancja Component (porównanie ==, słaba referencja),
+     * więc ponowne wysłanie tego samego obiektu to tylko odczyt z mapy. Bezpieczne z wątków async.
      * </p>
      * 
      * @param component Component do serializacji (może być null)
@@ -72,6 +120,35 @@ public class ColorUtil {
      */
     public static String serialize(Component component) {
         if (component == null) return "";
-        return serializer.serialize(component);
+        Profiler.TextSpan span = Profiler.serialize();
+        String result = serializeCache.get(component);
+        if (result != null) {
+            serializeStats.hit();
+            span.end(result.length(), true);
+            return result;
+        }
+        serializeStats.miss();
+        result = serializer.serialize(hexSupported ? component : LegacyColors.downsample(component));
+        serializeCache.put(component, result);
+        span.end(result.length(), false);
+        return result;
+    }
+
+    /**
+     * @return Statystyki trafień cache {@link #serialize(Component)}
+     */
+    public static CacheStats getSerializeCacheStats() {
+        return serializeStats;
+    }
+
+    /**
+     * @return Liczba zapamiętanych wyników serializacji (żywe instancje Component)
+     */
+    public static int getSerializeCacheSize() {
+        return serializeCache.size();
+    }
+
+    public static void clearSerializeCache() {
+        serializeCache.clear();
     }
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+package me.thezombiepl.plugin.zcore.utils;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Zamiana kolorów RGB na 16 kolorów legacy (MC 1.8 - 1.15) w czasie stałym.
+ * <p>
+ * Przy pierwszym użyciu budowana jest tablica 15-bit RGB (32768 wpisów) → kolor legacy,
+ * dopasowana percepcyjnie w przestrzeni CIE Lab. Każda kolejna konwersja to jeden odczyt z tablicy,
+ * zamiast wyszukiwania najbliższego koloru dla każdego znaku gradientu.
+ * </p>
+ */
+public final class LegacyColors {
+
+    private static final NamedTextColor[] PALETTE = {
+            NamedTextColor.BLACK, NamedTextColor.DARK_BLUE, NamedTextColor.DARK_GREEN, NamedTextColor.DARK_AQUA,
+            NamedTextColor.DARK_RED, NamedTextColor.DARK_PURPLE, NamedTextColor.GOLD, NamedTextColor.GRAY,
+            NamedTextColor.DARK_GRAY, NamedTextColor.BLUE, NamedTextColor.GREEN, NamedTextColor.AQUA,
+            NamedTextColor.RED, NamedTextColor.LIGHT_PURPLE, NamedTextColor.YELLOW, NamedTextColor.WHITE
+    };
+
+    private LegacyColors() {}
+
+    /**
+     * Zwraca najbliższy (percepcyjnie) kolor legacy dla koloru RGB.
+     *
+     * @param color Kolor źródłowy
+     * @return Kolor z palety legacy
+     */
+    public static NamedTextColor nearest(TextColor color) {
+        if (color instanceof NamedTextColor) return (NamedTextColor) color;
+        int index = ((color.red() >> 3) << 10) | ((color.green() >> 3) << 5) | (color.blue() >> 3);
+        return PALETTE[Table.LOOKUP[index]];
+    }
+
+    /**
+     * Zamienia wszystkie kolory RGB w drzewie komponentów na kolory legacy
+     * i scala sąsiadujące fragmenty tekstu o identycznym stylu.
+     * <p>
+     * Gradient daje osobny komponent na znak - po konwersji wiele sąsiednich znaków ma ten sam kolor,
+     * więc wynik serializuje się do znacznie krótszego tekstu.
+     * </p>
+     *
+     * @param component Component do konwersji
+     * @return Component zawierający wyłącznie kolory legacy
+     */
+    public static Component downsample(Component component) {
+        Component result = component;
+        TextColor color = component.color();
+        if (color != null && !(color instanceof NamedTextColor)) {
+            result = result.color(nearest(color));
+        }
+
+        List<Component> children = component.children();
+        if (children.isEmpty()) return result;
+
+        List<Component> mapped = new ArrayList<>(children.size());
+        boolean changed = false;
+        for (Component child : children) {
+            Component converted = downsample(child);
+            if (converted != child) changed = true;
+
+            int last = mapped.size() - 1;
+            if (last >= 0 && canMerge(mapped.get(last), converted)) {
+                TextComponent previous = (TextComponent) mapped.get(last);
+                mapped.set(last, Component.text(previous.content() + ((TextComponent) converted).content(), previous.style()));
+                changed = true;
+            } else {
+                mapped.add(converted);
+            }
+        }
+        return changed ? result.children(mapped) : result;
+    }
+
+    private static boolean canMerge(Component a, Component b) {
+        return a instanceof TextComponent && b instanceof TextComponent
+                && a.children().isEmpty() && b.children().isEmpty()
+                && a.style().equals(b.style());
+    }
+
+    /**
+     * Tablica budowana leniwie przy pierwszym użyciu (idiom holder class).
+     */
+    private static final class Table {
+        static final byte[] LOOKUP = build();
+
+        private static byte[] build() {
+            double[][] paletteLab = new double[PALETTE.length][];
+            for (int i = 0; i < PALETTE.length; i++) {
+                paletteLab[i] = toLab(PALETTE[i].red(), PALETTE[i].green(), PALETTE[i].blue());
+            }
+
+            byte[] table = new byte[1 << 15];
+            for (int rgb = 0; rgb < table.length; rgb++) {
+                int r = expand(rgb >> 10);
+                int g = expand((rgb >> 5) & 0x1F);
+                int b = expand(rgb & 0x1F);
+                double[] lab = toLab(r, g, b);
+
+                int best = 0;
+                double bestDistance = Double.MAX_VALUE;
+                for (int i = 0; i < paletteLab.length; i++) {
+                    double dl = lab[0] - paletteLab[i][0];
+                    double da = lab[1] - paletteLab[i][1];
+                    double db = lab[2] - paletteLab[i][2];
+                    double distance = dl * dl + da * da + db * db;
+                    if (distance < bestDistance) {
+                        bestDistance = distance;
+                        best = i;
+                    }
+                }
+                table[rgb] = (byte) best;
+            }
+            return table;
+        }
+
+        // 5 bitów → 8 bitów (31 → 255)
+        private static int expand(int fiveBits) {
+            return (fiveBits << 3) | (fiveBits >> 2);
+        }
+
+        // sRGB → CIE Lab (D65)
+        private static double[] toLab(int r, int g, int b) {
+            double lr = linear(r / 255.0);
+            double lg = linear(g / 255.0);
+            double lb = linear(b / 255.0);
+
+            double x = (lr * 0.4124 + lg * 0.3576 + lb * 0.1805) / 0.95047;
+            double y = (lr * 0.2126 + lg * 0.7152 + lb * 0.0722);
+            double z = (lr * 0.0193 + lg * 0.1192 + lb * 0.9505) / 1.08883;
+
+            double fx = labF(x);
+            double fy = labF(y);
+            double fz = labF(z);
+            return new double[]{116.0 * fy - 16.0, 500.0 * (fx - fy), 200.0 * (fy - fz)};
+        }
+
+        private static double linear(double channel) {
+            return channel <= 0.04045 ? channel / 12.92 : Math.pow((channel + 0.055) / 1.055, 2.4);
+        }
+
+        private static double labF(double t) {
+            return t > 216.0 / 24389.0 ? Math.cbrt(t) : (24389.0 / 27.0 * t + 16.0) / 116.0;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package me.thezombiepl.plugin.zcore.utils;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pomiar szerokości, centrowanie, zawijanie i dopełnianie tekstu czatu (domyślny font Minecraft).
+ * <p>
+ * Szerokości znaków pochodzą z tablicy budowanej raz przy ładowaniu klasy, pogrubienie dodaje 1 px na znak.
+ * Operacje działają bezpośrednio na {@link Component} (style są zachowywane). Szerokość i zawinięte
+ * linie są zapamiętywane per instancja komponentu (porównanie przez ==, bez hashowania drzewa),
+ * więc statyczne wiadomości liczone są raz, a jednorazowe znikają z cache razem z komponentem.
+ * </p>
+ *
+ * <pre>{@code
+ * Component motd = TextLayout.center(ColorUtil.colorize("<gold><bold>My Server"), TextLayout.MOTD_WIDTH);
+ * List<Component> lore = TextLayout.wrap(ColorUtil.colorize(description), 150);
+ * }</pre>
+ */
+public final class TextLayout {
+
+    /** Szerokość okna czatu przy domyślnych ustawieniach (px) */
+    public static final int CHAT_WIDTH = 320;
+    /** Szerokość linii MOTD na liście serwerów (px) */
+    public static final int MOTD_WIDTH = 270;
+
+    private static final int DEFAULT_ADVANCE = 6;
+    private static final int WIDE_ADVANCE = 9;
+    private static final int SPACE_ADVANCE = 4;
+    private static final byte[] ADVANCE = buildAdvanceTable();
+
+    // Limit bezpieczeństwa - wpisy jednorazowych komponentów usuwa GC
+    private static final int MAX_ENTRIES = 4096;
+    private static final WeakIdentityCache<Component, Layout> cache = new WeakIdentityCache<>(MAX_ENTRIES);
+    private static final CacheStats stats = new CacheStats();
+
+    private TextLayout() {}
+
+    /**
+     * Szerokość znaku razem z odstępem 1 px
+     */
+    public static int advance(char c, boolean bold) {
+        int width;
+        if (c < ADVANCE.length) {
+            width = ADVANCE[c];
+        } else if (isWide(c)) {
+            width = WIDE_ADVANCE;
+        } else {
+            width = DEFAULT_ADVANCE;
+        }
+        return bold ? width + 1 : width;
+    }
+
+    /**
+     * Szerokość wyrenderowanego komponentu w pikselach (dla wielu linii - najszerszej z nich)
+     */
+    public static int width(Component component) {
+        if (component == null) return 0;
+        Layout layout = layout(component);
+        int cached = layout.width;
+        if (cached >= 0) {
+            stats.hit();
+            return cached;
+        }
+        stats.miss();
+        int widest = 0;
+        int line = 0;
+        for (TextRuns.Run run : TextRuns.flatten(component)) {
+            String text = run.getText();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '\n') {
+                    widest = Math.max(widest, line);
+                    line = 0;
+                } else {
+                    line += advance(c, run.isBold());
+                }
+            }
+        }
+        int result = Math.max(widest, line);
+        layout.width = result;
+        return result;
+    }
+
+    /**
+     * Centruje komponent w linii o podanej szerokości, dodając spacje z lewej strony
+     */
+    public static Component center(Component component, int lineWidth) {
+        // Bez osobnego cache - wynik trzyma referencję do komponentu; szerokość jest już zapamiętana
+        int spaces = (lineWidth - width(component)) / 2 / SPACE_ADVANCE;
+        return spaces <= 0 ? component : Component.text(spaces(spaces)).append(component);
+    }
+
+    /**
+     * Dopełnia komponent spacjami z prawej strony do co najmniej podanej szerokości (np. kolumny w tabelach)
+     */
+    public static Component pad(Component component, int targetWidth) {
+        int missing = targetWidth - width(component);
+        if (missing <= 0) return component;
+        int spaces = (missing + SPACE_ADVANCE - 1) / SPACE_ADVANCE;
+        return component.append(Component.text(spaces(spaces)));
+    }
+
+    /**
+     * Zawija komponent do linii nie szerszych niż {@code maxWidth}, łamiąc na spacjach
+     * (zbyt długie słowa są dzielone). Znaki nowej linii wymuszają złamanie. Style są zachowane.
+     *
+     * @return Niemodyfikowalna lista linii
+     */
+    public static List<Component> wrap(Component component, int maxWidth) {
+        if (maxWidth < WIDE_ADVANCE + 1) throw new IllegalArgumentException("maxWidth too small: " + maxWidth);
+        Layout layout = layout(component);
+        List<Component> cached = layout.wraps.get(maxWidth);
+        if (cached != null) {
+            stats.hit();
+            return cached;
+        }
+        stats.miss();
+
+        List<TextRuns.Run> runs = TextRuns.flatten(component);
+        StringBuilder chars = new StringBuilder();
+        List<Integer> runOf = new ArrayList<>();
+        for (int r = 0; r < runs.size(); r++) {
+            String text = runs.get(r).getText();
+            chars.append(text);
+            for (int i = 0; i < text.length(); i++) runOf.add(r);
+        }
+
+        List<Component> lines = new ArrayList<>();
+        int n = chars.length();
+        int lineStart = 0;
+        int lineWidth = 0;
+        int lastSpace = -1;
+        for (int i = 0; i < n; i++) {
+            char c = chars.charAt(i);
+            if (c == '\n') {
+                lines.add(line(runs, chars, runOf, lineStart, i));
+                lineStart = i + 1;
+                lineWidth = 0;
+                lastSpace = -1;
+                continue;
+            }
+            int w = advance(c, runs.get(runOf.get(i)).isBold());
+            if (lineWidth + w > maxWidth && i > lineStart) {
+                if (c == ' ') {
+                    // Spacja na końcu linii znika
+                    lines.add(line(runs, chars, runOf, lineStart, i));
+                    lineStart = i + 1;
+                    lineWidth = 0;
+                    lastSpace = -1;
+                    continue;
+                }
+                if (lastSpace >= lineStart) {
+                    lines.add(line(runs, chars, runOf, lineStart, lastSpace));
+                    lineStart = lastSpace + 1;
+                } else {
+                    lines.add(line(runs, chars, runOf, lineStart, i));
+                    lineStart = i;
+                }
+                lastSpace = -1;
+                lineWidth = 0;
+                for (int j = lineStart; j < i; j++) {
+                    lineWidth += advance(chars.charAt(j), runs.get(runOf.get(j)).isBold());
+                }
+                // Przeniesione słowo razem z bieżącym znakiem nadal się nie mieści - łamiemy je twardo
+                if (lineWidth + w > maxWidth && i > lineStart) {
+                    lines.add(line(runs, chars, runOf, lineStart, i));
+                    lineStart = i;
+                    lineWidth = 0;
+                }
+            }
+            if (c == ' ') lastSpace = i;
+            lineWidth += w;
+        }
+        lines.add(line(runs, chars, runOf, lineStart, n));
+
+        List<Component> result = Collections.unmodifiableList(lines);
+        layout.wraps.put(maxWidth, result);
+        return result;
+    }
+
+    public static CacheStats getCacheStats() {
+        return stats;
+    }
+
+    public static int getCacheSize() {
+        return cache.size();
+    }
+
+    // Buduje linię z zakresu znaków, grupując sąsiednie znaki z tego samego fragmentu
+    private static Component line(List<TextRuns.Run> runs, CharSequence chars, List<Integer> runOf, int start, int end) {
+        List<Component> pieces = new ArrayList<>();
+        int i = start;
+        while (i < end) {
+            int run = runOf.get(i);
+            int j = i + 1;
+            while (j < end && runOf.get(j) == run) j++;
+            pieces.add(Component.text(chars.subSequence(i, j).toString(), runs.get(run).getStyle()));
+            i = j;
+        }
+        if (pieces.isEmpty()) return Component.empty();
+        if (pieces.size() == 1) return pieces.get(0);
+        TextComponent.Builder builder = Component.text();
+        for (Component piece : pieces) builder.append(piece);
+        return builder.build();
+    }
+
+    private static Layout layout(Component component) {
+        Layout layout = cache.get(component);
+        if (layout == null) {
+            layout = new Layout();
+            cache.put(component, layout);
+        }
+        return layout;
+    }
+
+    private static String spaces(int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, ' ');
+        return new String(chars);
+    }
+
+    // CJK i pełnej szerokości - renderowane fontem unicode, szersze od ASCII
+    private static boolean isWide(char c) {
+        return (c >= 0x2E80 && c <= 0x9FFF) || (c >= 0xAC00 && c <= 0xD7AF) || (c >= 0xFF00 && c <= 0xFFEF);
+    }
+
+    // Szerokości glifów domyślnego fontu (ascii.png) + 1 px odstępu
+    private static byte[] buildAdvanceTable() {
+        byte[] table = new byte[256];
+        Arrays.fill(table, (byte) DEFAULT_ADVANCE);
+        set(table, " ", SPACE_ADVANCE);
+        set(table, "!,.:;|'i", 2);
+        set(table, "`l", 3);
+        set(table, "\"()*I[]t{}", 4);
+        set(table, "<>fk", 5);
+        set(table, "@~", 7);
+        for (char c = 0; c < 32; c++) table[c] = 0;
+        return table;
+    }
+
+    private static void set(byte[] table, String chars, int advance) {
+        for (int i = 0; i < chars.length(); i++) {
+            table[chars.charAt(i)] = (byte) advance;
+        }
+    }
+
+    // Wyniki dla jednej instancji komponentu; linie z wrap() nie trzymają referencji do niej
+    private static final class Layout {
+        volatile int width = -1;
+        final Map<Integer, List<Component>> wraps = new ConcurrentHashMap<>(2);
+    }
+}
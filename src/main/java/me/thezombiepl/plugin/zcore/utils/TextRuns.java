@@ -0,0 +1,83 @@
+package me.thezombiepl.plugin.zcore.utils;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Spłaszczanie drzewa komponentów do listy fragmentów tekstu z efektywnym (odziedziczonym) stylem.
+ * <p>
+ * Wspólna podstawa dla pomiaru szerokości, zawijania i animacji tekstu - zamiast każdorazowego
+ * usuwania kodów kolorów z tekstu legacy. Sąsiednie fragmenty o identycznym stylu są scalane.
+ * Komponenty inne niż tekstowe (np. tłumaczenia) są pomijane.
+ * </p>
+ */
+public final class TextRuns {
+
+    private TextRuns() {}
+
+    /**
+     * @param component Component do spłaszczenia
+     * @return Niemodyfikowalna lista fragmentów w kolejności wyświetlania
+     */
+    public static List<Run> flatten(Component component) {
+        if (component == null) return Collections.emptyList();
+        List<Run> runs = new ArrayList<>();
+        walk(component, Style.empty(), runs);
+        return Collections.unmodifiableList(runs);
+    }
+
+    private static void walk(Component component, Style parent, List<Run> out) {
+        Style style = component.style().merge(parent, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+        if (component instanceof TextComponent) {
+            String content = ((TextComponent) component).content();
+            if (!content.isEmpty()) {
+                int last = out.size() - 1;
+                if (last >= 0 && out.get(last).style.equals(style)) {
+                    out.set(last, new Run(out.get(last).text + content, style));
+                } else {
+                    out.add(new Run(content, style));
+                }
+            }
+        }
+        for (Component child : component.children()) {
+            walk(child, style, out);
+        }
+    }
+
+    /**
+     * Fragment tekstu z pełnym, odziedziczonym stylem
+     */
+    public static final class Run {
+        private final String text;
+        private final Style style;
+        private final boolean bold;
+
+        public Run(String text, Style style) {
+            this.text = text;
+            this.style = style;
+            this.bold = style.decoration(TextDecoration.BOLD) == TextDecoration.State.TRUE;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public Style getStyle() {
+            return style;
+        }
+
+        public boolean isBold() {
+            return bold;
+        }
+
+        public Component toComponent() {
+            return Component.text(text, style);
+        }
+    }
+}
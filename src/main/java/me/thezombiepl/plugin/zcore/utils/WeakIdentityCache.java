@@ -0,0 +1,103 @@
+package me.thezombiepl.plugin.zcore.utils;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache kluczowany tożsamością obiektu (==), ze słabymi referencjami do kluczy, bezpieczny dla wielu wątków.
+ * <p>
+ * Wyszukiwanie używa {@link System#identityHashCode(Object)} zamiast {@code hashCode()/equals()},
+ * więc dla dużych niemutowalnych drzew (np. Component) kosztuje tyle co odczyt z mapy.
+ * Wpis znika, gdy klucz zostanie zebrany przez GC; po przekroczeniu limitu cache jest czyszczony.
+ * </p>
+ *
+ * @param <K> Typ klucza (porównywany przez ==)
+ * @param <V> Typ wartości (nie powinien trzymać referencji do klucza)
+ */
+final class WeakIdentityCache<K, V> {
+
+    private final Map<Object, V> map = new ConcurrentHashMap<>();
+    private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+    private final int maxEntries;
+
+    WeakIdentityCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    V get(K key) {
+        expunge();
+        return map.get(new Lookup(key));
+    }
+
+    void put(K key, V value) {
+        expunge();
+        if (map.size() >= maxEntries) map.clear();
+        map.put(new WeakKey<>(key, queue), value);
+    }
+
+    int size() {
+        expunge();
+        return map.size();
+    }
+
+    void clear() {
+        map.clear();
+        expunge();
+    }
+
+    // Usuwa wpisy, których klucze zebrał GC
+    private void expunge() {
+        Reference<? extends K> ref;
+        while ((ref = queue.poll()) != null) {
+            map.remove(ref);
+        }
+    }
+
+    private static final class WeakKey<K> extends WeakReference<K> {
+        private final int hash;
+
+        WeakKey(K referent, ReferenceQueue<K> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            Object referent = get();
+            if (referent == null) return false;
+            if (o instanceof Lookup) return ((Lookup) o).key == referent;
+            return o instanceof WeakKey && ((WeakKey<?>) o).get() == referent;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // Klucz tymczasowy do odczytu - bez tworzenia WeakReference przy każdym get()
+    private static final class Lookup {
+        private final Object key;
+        private final int hash;
+
+        Lookup(Object key) {
+            this.key = key;
+            this.hash = System.identityHashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            return o instanceof WeakKey && ((WeakKey<?>) o).get() == key;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}